@@ -0,0 +1,61 @@
+package com.jorgegarcia.daycare.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildSummaryDTO;
+import com.jorgegarcia.daycare.dto.TeacherSummaryDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ============================================================
+// 🍼 Body of GET /api/classrooms/{id}: serialize every time vs cached bytes
+// size = children in the classroom
+//   serialize   → ObjectMapper.writeValueAsBytes(ClassroomDTO) (what Jackson does per request)
+//   cachedBytes → JsonResponseCache.get with an unchanged version
+// Run with -prof gc to compare bytes allocated per operation.
+// ============================================================
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JsonResponseCacheBenchmark {
+
+    @Param({"0", "20", "500"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private JsonResponseCache cache;
+    private ClassroomDTO dto;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper();
+        cache = new JsonResponseCache(true, objectMapper, Duration.ofMinutes(10), 32 * 1024 * 1024);
+
+        List<DaycareChildSummaryDTO> children = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            children.add(DaycareChildSummaryDTO.builder().id((long) i).fullName("Kid" + i + " Smith").build());
+        }
+        dto = ClassroomDTO.builder()
+                .id(1L)
+                .className("Butterflies")
+                .teacher(TeacherSummaryDTO.builder().id(1L).fullName("Marina Princess").build())
+                .children(children)
+                .build();
+
+        cache.get(JsonResponseCache.CLASSROOM, 1L, 0, () -> dto); // warm entry
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] cachedBytes() {
+        return cache.get(JsonResponseCache.CLASSROOM, 1L, 0, () -> dto);
+    }
+}
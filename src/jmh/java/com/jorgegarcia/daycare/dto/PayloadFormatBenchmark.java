@@ -0,0 +1,97 @@
+package com.jorgegarcia.daycare.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ============================================================
+// 🍼 JSON vs CBOR vs Smile for the big list responses
+//   payload = classrooms → List<ClassroomDTO>    (20 rooms × 25 children, like GET /api/classrooms)
+//             children   → List<DaycareChildDTO> (500, like GET /api/children)
+//   encode → server side (DTO → bytes), decode → client side (bytes → DTO)
+// Payload size per format is printed once at setup ("📦 ...").
+// ============================================================
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"classrooms", "children"})
+    public String payload;
+
+    private ObjectMapper mapper;
+    private Object dtos;
+    private TypeReference<?> type;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws Exception {
+        mapper = switch (format) {
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> new ObjectMapper();
+        };
+
+        if (payload.equals("classrooms")) {
+            dtos = classrooms(20, 25);
+            type = new TypeReference<List<ClassroomDTO>>() {};
+        } else {
+            dtos = children(500);
+            type = new TypeReference<List<DaycareChildDTO>>() {};
+        }
+
+        encoded = mapper.writeValueAsBytes(dtos);
+        System.out.printf("%n📦 %s %s: %d bytes%n", format, payload, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return mapper.readValue(encoded, type);
+    }
+
+    private static List<ClassroomDTO> classrooms(int rooms, int childrenPerRoom) {
+        List<ClassroomDTO> list = new ArrayList<>(rooms);
+        long childId = 1;
+        for (int r = 1; r <= rooms; r++) {
+            List<DaycareChildSummaryDTO> kids = new ArrayList<>(childrenPerRoom);
+            for (int c = 0; c < childrenPerRoom; c++, childId++) {
+                kids.add(DaycareChildSummaryDTO.builder().id(childId).fullName("Kid" + childId + " Smith").build());
+            }
+            list.add(ClassroomDTO.builder()
+                    .id((long) r)
+                    .className("Room " + r)
+                    .teacher(TeacherSummaryDTO.builder().id((long) r).fullName("Marina Princess").build())
+                    .children(kids)
+                    .build());
+        }
+        return list;
+    }
+
+    private static List<DaycareChildDTO> children(int count) {
+        List<DaycareChildDTO> list = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            list.add(DaycareChildDTO.builder()
+                    .id(i)
+                    .firstName("Kid" + i)
+                    .lastName("Smith")
+                    .age(3)
+                    .classroom(ClassroomSummaryDTO.builder().id(i % 20).className("Room " + i % 20).build())
+                    .build());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,46 @@
+package com.jorgegarcia.daycare.exception;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+// ============================================================
+// 🍼 Error path cost (every 404 / 409 goes through here)
+//   handleOnly        → GlobalExceptionHandler building the error body
+//   createAndHandle   → + creating the exception (stack trace capture)
+//   throwAndHandle    → + throwing / catching it, like a real request
+// ============================================================
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ResourceNotFoundException notFound;
+
+    @Setup
+    public void setup() {
+        handler = new GlobalExceptionHandler();
+        notFound = new ResourceNotFoundException("Classroom 42 not found");
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> handleOnly() {
+        return handler.handleResourceNotFound(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> createAndHandle() {
+        return handler.handleResourceNotFound(new ResourceNotFoundException("Classroom 42 not found"));
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> throwAndHandle() {
+        try {
+            throw new DuplicateEntryException("Email already exists");
+        } catch (DuplicateEntryException ex) {
+            return handler.handleDuplicateEntry(ex);
+        }
+    }
+}
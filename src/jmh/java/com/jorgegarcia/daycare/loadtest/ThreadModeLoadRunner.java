@@ -0,0 +1,239 @@
+package com.jorgegarcia.daycare.loadtest;
+
+import com.jorgegarcia.daycare.DaycareApplication;
+import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.jorgegarcia.daycare.security.AppUser;
+import com.jorgegarcia.daycare.security.AppUserRepository;
+import com.jorgegarcia.daycare.security.JwtService;
+import com.jorgegarcia.daycare.security.Role;
+import com.jorgegarcia.daycare.service.RosterService;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// ============================================================
+// 🍼 Load test: platform threads vs virtual threads (profile "vthreads")
+// Starts the app twice in this JVM (same H2 data, same pool size), puts an
+// artificial delay on every SQL statement (= slow DB), hammers
+// GET /api/daycareKids/{id} with N concurrent users and prints throughput + p99.
+//
+//   mvn -Pjmh test-compile exec:java -Dexec.classpathScope=test \
+//       -Dexec.mainClass=com.jorgegarcia.daycare.loadtest.ThreadModeLoadRunner \
+//       -Dexec.args="users seconds dbDelayMs"      (default: 400 20 20)
+// ============================================================
+public final class ThreadModeLoadRunner {
+
+    private static final int CHILDREN = 500;
+    private static final int POOL_SIZE = 20;
+
+    private ThreadModeLoadRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int dbDelayMs = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        List<Result> results = new ArrayList<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            results.add(run(virtual, users, seconds, dbDelayMs));
+        }
+
+        System.out.printf("%n%d users, %ds, %dms per SQL statement, pool %d%n", users, seconds, dbDelayMs, POOL_SIZE);
+        System.out.printf("%-10s %10s %10s %10s %10s %8s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "503", "errors");
+        results.forEach(Result::print);
+    }
+
+    private static Result run(boolean virtual, int users, int seconds, int dbDelayMs) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(DaycareApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(slowDatabase(dbDelayMs)));
+        if (virtual) {
+            builder.profiles("vthreads");
+        }
+
+        // command-line style → wins over application-*.properties, so both modes get the same pool
+        try (ConfigurableApplicationContext app = builder.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest_" + mode,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN")) {
+            List<Long> childIds = seed(app);
+            String token = "Bearer " + app.getBean(JwtService.class).generateAccessToken("loadtest", Role.ADMIN, 0);
+            String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+
+            warmUp(baseUrl, token, childIds);
+            return load(mode, baseUrl, token, childIds, users, seconds);
+        }
+    }
+
+    private static List<Long> seed(ConfigurableApplicationContext app) {
+        app.getBean(AppUserRepository.class).save(AppUser.builder()
+                .username("loadtest").password("x").role(Role.ADMIN).build());
+
+        Teacher teacher = app.getBean(TeacherRepository.class).save(Teacher.builder()
+                .firstName("Load").lastName("Test").email("loadtest@daycare.com").build());
+        Classroom classroom = app.getBean(ClassroomRepository.class).save(Classroom.builder()
+                .className("Load Room").teacher(teacher).build());
+
+        List<DaycareChild> children = new ArrayList<>();
+        for (int i = 0; i < CHILDREN; i++) {
+            children.add(DaycareChild.builder()
+                    .firstName("Kid" + i).lastName("Load").age(3).classroom(classroom).build());
+        }
+        List<Long> ids = app.getBean(DaycareChildRepository.class).saveAll(children)
+                .stream().map(DaycareChild::getId).toList();
+        app.getBean(RosterService.class).rebuild();
+        return ids;
+    }
+
+    private static void warmUp(String baseUrl, String token, List<Long> childIds) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        for (int i = 0; i < 200; i++) {
+            client.send(request(baseUrl, token, childIds), HttpResponse.BodyHandlers.discarding());
+        }
+    }
+
+    // N users, each sending its next request as soon as the previous one returns
+    private static Result load(String mode, String baseUrl, String token, List<Long> childIds,
+                               int users, int seconds) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        LongAdder rejected = new LongAdder();
+        LongAdder errors = new LongAdder();
+        List<long[]> latencies = new ArrayList<>();
+
+        try (ExecutorService userThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < users; u++) {
+                long[] own = new long[1 << 16];
+                latencies.add(own);
+                userThreads.submit(() -> {
+                    int n = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            int status = client.send(request(baseUrl, token, childIds),
+                                    HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 503) {
+                                rejected.increment();
+                                continue;
+                            }
+                            if (status != 200) {
+                                errors.increment();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                            continue;
+                        }
+                        if (n + 1 < own.length) {
+                            own[++n] = System.nanoTime() - start;
+                        }
+                    }
+                    own[0] = n; // slot 0 = how many samples follow
+                    return null;
+                });
+            }
+        }
+
+        long total = latencies.stream().mapToLong(l -> l[0]).sum();
+        long[] all = new long[(int) total];
+        int i = 0;
+        for (long[] own : latencies) {
+            System.arraycopy(own, 1, all, i, (int) own[0]);
+            i += (int) own[0];
+        }
+        Arrays.sort(all);
+        return new Result(mode, total / (double) seconds, percentile(all, 0.50), percentile(all, 0.99),
+                all.length == 0 ? 0 : all[all.length - 1], rejected.sum(), errors.sum());
+    }
+
+    private static HttpRequest request(String baseUrl, String token, List<Long> childIds) {
+        long id = childIds.get(ThreadLocalRandom.current().nextInt(childIds.size()));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/daycareKids/" + id))
+                .header("Authorization", token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+
+    // ============================================================
+    // 🧸 "Slow DB": every executed statement sleeps dbDelayMs first,
+    // while holding its pooled connection, like a real slow query
+    // ============================================================
+    private static BeanPostProcessor slowDatabase(int delayMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                    return bean;
+                }
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return slow(super.getConnection(), Connection.class, delayMs);
+                    }
+                };
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T slow(T target, Class<T> type, int delayMs) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                Thread.sleep(delayMs);
+            }
+            try {
+                Object result = method.invoke(target, args);
+                if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return slow(result, (Class<Object>) method.getReturnType(), delayMs);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private record Result(String mode, double throughput, long p50, long p99, long max, long rejected, long errors) {
+        void print() {
+            System.out.printf("%-10s %10.0f %10.1f %10.1f %10.1f %8d %8d%n", mode, throughput,
+                    p50 / 1e6, p99 / 1e6, max / 1e6, rejected, errors);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.jorgegarcia.daycare.search;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ============================================================
+// 🍼 Typeahead latency over a big index (target: well under 1 ms)
+// docs = people in the index (2 names each, like a child)
+//   oneLetter   → "m"        widest range, stops at `limit` hits
+//   prefix      → "mar"
+//   twoWords    → "mar lo"   lead word scanned, second word filtered
+//   noMatch     → "zzz"      empty range
+//   put         → one write (rename) while the index is full
+// ============================================================
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PrefixIndexBenchmark {
+
+    private static final List<String> FIRST = List.of(
+            "Marina", "Mario", "Ana", "Anabel", "José", "Josefa", "Leo", "Leonardo", "Mia", "Lucía",
+            "Martín", "Hugo", "Lola", "Pablo", "Sofía", "Daniel", "Valeria", "Álvaro", "Carmen", "Diego");
+    private static final List<String> LAST = List.of(
+            "López", "Lorenzo", "García", "Martínez", "Ruiz", "Sánchez", "Pérez", "Gómez", "Díaz", "Moreno",
+            "Muñoz", "Álvarez", "Romero", "Navarro", "Torres", "Domínguez", "Vázquez", "Ramos", "Gil", "Serrano");
+
+    @Param({"100000"})
+    public int docs;
+
+    @Param({"10"})
+    public int limit;
+
+    private PrefixIndex index;
+    private long nextId;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        index = new PrefixIndex();
+        for (long id = 1; id <= docs; id++) {
+            String first = FIRST.get(random.nextInt(FIRST.size()));
+            String last = LAST.get(random.nextInt(LAST.size())) + (id % 997); // spread the keys
+            index.put(id, first + " " + last, first, last);
+        }
+        nextId = 1;
+    }
+
+    @Benchmark
+    public PrefixIndex.Hits oneLetter() {
+        return index.search("m", limit);
+    }
+
+    @Benchmark
+    public PrefixIndex.Hits prefix() {
+        return index.search("mar", limit);
+    }
+
+    @Benchmark
+    public PrefixIndex.Hits twoWords() {
+        return index.search("mar lo", limit);
+    }
+
+    @Benchmark
+    public PrefixIndex.Hits noMatch() {
+        return index.search("zzz", limit);
+    }
+
+    @Benchmark
+    public void put() {
+        long id = nextId++ % docs + 1;
+        index.put(id, "Renamed Kid", "Renamed", "Kid" + id);
+    }
+}
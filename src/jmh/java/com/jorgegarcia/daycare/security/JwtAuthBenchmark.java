@@ -0,0 +1,71 @@
+package com.jorgegarcia.daycare.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// ============================================================
+// 🍼 Per-request JWT cost in JwtAuthFilter
+//   legacyTripleParse → what the filter used to do (3 full verifications,
+//                       a new parser + key for each one)
+//   parseOnce         → one full verification with the prebuilt parser
+//   verifyCached      → what the filter does now (token already seen)
+//   generateToken     → signing a new access token (login / refresh)
+//   extractUsername   → JwtService.extractUsername (full parse, no cache)
+// ============================================================
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatIsLongEnoughForHs256Signing123";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = new JwtService(SECRET, 3_600_000, 86_400_000, 10_000);
+        token = jwtService.generateAccessToken("teacher@daycare.com", Role.TEACHER, 0);
+        jwtService.verify(token); // warm the verified-token cache
+    }
+
+    @Benchmark
+    public boolean legacyTripleParse() {
+        String username = legacyParse(token).getSubject();             // extractUsername
+        String extracted = legacyParse(token).getSubject();            // isTokenValid → extractUsername
+        Date expiration = legacyParse(token).getExpiration();          // isTokenExpired
+        return extracted.equals(username) && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public Claims parseOnce() {
+        return jwtService.parseClaims(token);
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateAccessToken("teacher@daycare.com", Role.TEACHER, 0);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(SECRET.getBytes())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,147 @@
+package com.jorgegarcia.daycare.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// ============================================================
+// 🍼 Whole JwtAuthFilter pass for an already-seen token
+//   claimsOnly       → access token with role claim: Authentication built
+//                      from the claims (what every request does now)
+//   subjectCachedUser → subject-only token, user found in UserDetailsCache
+//   subjectDbLookup  → subject-only token, user SELECTed on every request
+//                      (cache disabled; H2 in-process, so this is the
+//                      floor — a networked MySQL adds a round trip on top)
+// ============================================================
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatIsLongEnoughForHs256Signing123";
+    private static final String USERNAME = "teacher@daycare.com";
+    private static final String ALREADY_FILTERED = JwtAuthFilter.class.getName() + ".FILTERED";
+    private static final FilterChain NO_OP = (req, res) -> { };
+
+    private Connection connection;
+    private JwtAuthFilter claimsFilter;
+    private JwtAuthFilter cachedFilter;
+    private JwtAuthFilter dbFilter;
+    private MockHttpServletRequest accessRequest;
+    private MockHttpServletRequest subjectOnlyRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jwt_filter_bench");
+        try (Statement st = connection.createStatement()) {
+            st.execute("create table users (id bigint primary key, username varchar(255), password varchar(255), role varchar(16))");
+            st.execute("create unique index ux_users_username on users (username)");
+            st.execute("insert into users values (1, '" + USERNAME + "', '{noop}x', 'TEACHER')");
+        }
+        AppUserRepository repository = jdbcRepository(connection);
+
+        JwtService jwtService = new JwtService(SECRET, 3_600_000, 86_400_000, 10_000);
+        AppUserDetailsService cachedUsers =
+                new AppUserDetailsService(repository, new UserDetailsCache(Duration.ofMinutes(5), 10_000));
+        AppUserDetailsService uncachedUsers =
+                new AppUserDetailsService(repository, new UserDetailsCache(Duration.ofMinutes(5), 0));
+
+        claimsFilter = new JwtAuthFilter(jwtService, cachedUsers);
+        cachedFilter = new JwtAuthFilter(jwtService, cachedUsers);
+        dbFilter = new JwtAuthFilter(jwtService, uncachedUsers);
+
+        // Subject-only token, as issued before role claims existed
+        String subjectOnly = Jwts.builder()
+                .setSubject(USERNAME)
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        accessRequest = request(jwtService.generateAccessToken(USERNAME, Role.TEACHER, 0));
+        subjectOnlyRequest = request(subjectOnly);
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public Authentication claimsOnly() throws Exception {
+        return run(claimsFilter, accessRequest);
+    }
+
+    @Benchmark
+    public Authentication subjectCachedUser() throws Exception {
+        return run(cachedFilter, subjectOnlyRequest);
+    }
+
+    @Benchmark
+    public Authentication subjectDbLookup() throws Exception {
+        return run(dbFilter, subjectOnlyRequest);
+    }
+
+    private Authentication run(JwtAuthFilter filter, MockHttpServletRequest request) throws Exception {
+        request.removeAttribute(ALREADY_FILTERED); // OncePerRequestFilter marker, same request object reused
+        try {
+            filter.doFilter(request, response, NO_OP);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/classrooms");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    // Just findByUsername, over plain JDBC (no Spring context in a benchmark)
+    private static AppUserRepository jdbcRepository(Connection connection) {
+        return (AppUserRepository) Proxy.newProxyInstance(
+                AppUserRepository.class.getClassLoader(),
+                new Class<?>[]{AppUserRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findByUsername")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    try (PreparedStatement ps = connection.prepareStatement(
+                            "select id, username, password, role from users where username = ?")) {
+                        ps.setString(1, (String) args[0]);
+                        try (ResultSet rs = ps.executeQuery()) {
+                            if (!rs.next()) {
+                                return Optional.empty();
+                            }
+                            return Optional.of(AppUser.builder()
+                                    .id(rs.getLong(1))
+                                    .username(rs.getString(2))
+                                    .password(rs.getString(3))
+                                    .role(Role.valueOf(rs.getString(4)))
+                                    .build());
+                        }
+                    }
+                });
+    }
+}
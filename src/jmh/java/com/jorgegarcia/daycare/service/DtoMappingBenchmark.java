@@ -0,0 +1,117 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.ClassroomRosterRow;
+import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.model.Teacher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ============================================================
+// 🍼 Entity → DTO mapping cost (pure CPU, no database)
+// size = children in the classroom AND classrooms of the teacher
+//   classroomToDto    → ClassroomService.toDto
+//   rosterToDto       → RosterService.toClassroomDtos (roster rows, names prebuilt)
+//   teacherToDto      → TeacherService.toDTO      (streams)
+//   teacherToDtoBaby  → TeacherService.toDTO_Baby (for loop)
+//   childrenToDto     → DaycareChildService.toDTO for every child
+// Run with -prof gc to see bytes allocated per operation.
+// ============================================================
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"0", "20", "500"})
+    public int size;
+
+    private ClassroomService classroomService;
+    private TeacherService teacherService;
+    private DaycareChildService childService;
+    private RosterService rosterService;
+
+    private Classroom classroom;
+    private Teacher teacher;
+    private List<ClassroomRosterRow> rosterRows;
+
+    @Setup
+    public void setup() {
+        // Mapping methods never touch repositories or caches
+        classroomService = new ClassroomService(null, null, null, null, null, null, null, null);
+        teacherService = new TeacherService(null, null, null, null, null, null, null);
+        childService = new DaycareChildService(null, null, null, null, null, null);
+        rosterService = new RosterService(null, null);
+
+        teacher = Teacher.builder()
+                .id(1L)
+                .firstName("Marina")
+                .lastName("Princess")
+                .email("marina@test.com")
+                .build();
+
+        List<Classroom> classes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            classes.add(Classroom.builder().id((long) i).className("Room " + i).teacher(teacher).build());
+        }
+        teacher.setClasses(classes);
+
+        classroom = Classroom.builder()
+                .id(1L)
+                .className("Butterflies")
+                .teacher(teacher)
+                .build();
+
+        List<DaycareChild> children = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            children.add(DaycareChild.builder()
+                    .id((long) i)
+                    .firstName("Kid" + i)
+                    .lastName("Smith")
+                    .age(3)
+                    .classroom(classroom)
+                    .build());
+        }
+        classroom.setChildren(children);
+
+        rosterRows = new ArrayList<>();
+        rosterRows.add(ClassroomRosterRow.builder()
+                .classroomId(1L).className("Butterflies").teacherId(1L).teacherFullName("Marina Princess").build());
+        for (DaycareChild child : children) {
+            rosterRows.add(ClassroomRosterRow.builder()
+                    .classroomId(1L).className("Butterflies").teacherId(1L).teacherFullName("Marina Princess")
+                    .childId(child.getId()).childFullName(child.getFirstName() + " " + child.getLastName())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public ClassroomDTO classroomToDto() {
+        return classroomService.toDto(classroom);
+    }
+
+    @Benchmark
+    public List<ClassroomDTO> rosterToDto() {
+        return rosterService.toClassroomDtos(rosterRows);
+    }
+
+    @Benchmark
+    public TeacherDTO teacherToDto() {
+        return teacherService.toDTO(teacher);
+    }
+
+    @Benchmark
+    public TeacherDTO teacherToDtoBaby() {
+        return teacherService.toDTO_Baby(teacher);
+    }
+
+    @Benchmark
+    public List<DaycareChildDTO> childrenToDto() {
+        return classroom.getChildren().stream().map(childService::toDTO).toList();
+    }
+}
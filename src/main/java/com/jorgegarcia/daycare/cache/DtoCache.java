@@ -0,0 +1,92 @@
+package com.jorgegarcia.daycare.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jorgegarcia.daycare.dto.CacheStatsDTO;
+
+// ============================================================
+// 🍼 id → ready-made response DTO (bounded + TTL)
+// Reads go through get(id, loader); every write path calls evict()
+// for each id whose DTO it may have changed.
+// ============================================================
+public class DtoCache<V> implements MonitoredCache {
+
+    private final String name;
+    private final Cache<Long, V> entries;
+    private final LongAdder invalidations = new LongAdder();
+    private final List<Consumer<List<Long>>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    public DtoCache(String name, Duration ttl, long maxSize) {
+        this.name = name;
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    // Loader runs only on a miss; if it throws (not found) nothing is cached
+    public V get(Long id, Function<Long, V> loader) {
+        return entries.get(id, loader);
+    }
+
+    // Caches derived from this one (e.g. the serialized JSON) drop the same ids,
+    // at the same moments (now + after commit)
+    public void onInvalidate(Consumer<List<Long>> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    public void evict(Long id) {
+        if (id != null) {
+            evictAll(List.of(id));
+        }
+    }
+
+    // Evicts now AND again after commit: a reader that re-cached the old
+    // state between our write and the commit is thrown out as well
+    public void evictAll(Collection<Long> ids) {
+        List<Long> keys = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        invalidate(keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(keys);
+                }
+            });
+        }
+    }
+
+    private void invalidate(List<Long> keys) {
+        entries.invalidateAll(keys);
+        invalidations.add(keys.size());
+        invalidationListeners.forEach(listener -> listener.accept(keys));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CacheStatsDTO getStats() {
+        return CacheStatsDTO.from(entries.stats(), invalidations.sum(), entries.estimatedSize());
+    }
+}
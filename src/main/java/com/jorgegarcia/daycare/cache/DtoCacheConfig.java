@@ -0,0 +1,47 @@
+package com.jorgegarcia.daycare.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+
+@Configuration
+public class DtoCacheConfig {
+
+    @Value("${app.cache.dto.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${app.cache.dto.max-size:5000}")
+    private long maxSize;
+
+    @Value("${app.cache.json.enabled:false}")
+    private boolean jsonEnabled;
+
+    @Value("${app.cache.json.max-bytes:33554432}")
+    private long jsonMaxBytes;
+
+    @Bean
+    public JsonResponseCache jsonResponseCache(ObjectMapper objectMapper) {
+        return new JsonResponseCache(jsonEnabled, objectMapper, ttl, jsonMaxBytes);
+    }
+
+    // Whatever evicts a DTO evicts its serialized JSON too
+    @Bean
+    public DtoCache<TeacherDTO> teacherDtoCache(JsonResponseCache jsonCache) {
+        DtoCache<TeacherDTO> cache = new DtoCache<>("teacherDto", ttl, maxSize);
+        cache.onInvalidate(ids -> jsonCache.evictAll(JsonResponseCache.TEACHER, ids));
+        return cache;
+    }
+
+    @Bean
+    public DtoCache<ClassroomDTO> classroomDtoCache(JsonResponseCache jsonCache) {
+        DtoCache<ClassroomDTO> cache = new DtoCache<>("classroomDto", ttl, maxSize);
+        cache.onInvalidate(ids -> jsonCache.evictAll(JsonResponseCache.CLASSROOM, ids));
+        return cache;
+    }
+}
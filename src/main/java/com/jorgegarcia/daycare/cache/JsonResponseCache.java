@@ -0,0 +1,87 @@
+package com.jorgegarcia.daycare.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jorgegarcia.daycare.dto.CacheStatsDTO;
+
+// ============================================================
+// 🍼 (resource, id) → response body already serialized to UTF-8 JSON
+// Each entry remembers the version (ETag) it was built from: a request
+// for another version re-serializes, so a stale body is never served
+// even if an eviction was missed. Writes evict through the DtoCache
+// listeners (see DtoCacheConfig), i.e. from the same service write paths.
+// Bounded by total bytes, not by entry count.
+// ============================================================
+public class JsonResponseCache implements MonitoredCache {
+
+    public static final String CLASSROOM = "classroom";
+    public static final String TEACHER = "teacher";
+
+    private record Key(String resource, Long id) {}
+
+    private record Body(long version, byte[] json) {}
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Body> entries;
+    private final LongAdder invalidations = new LongAdder();
+
+    public JsonResponseCache(boolean enabled, ObjectMapper objectMapper, Duration ttl, long maxBytes) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Body body) -> body.json().length)
+                .recordStats()
+                .build();
+    }
+
+    // false → controllers keep the normal ResponseEntity + Jackson path
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // dto runs only on a miss (or when the cached body is of another version)
+    public byte[] get(String resource, Long id, long version, Supplier<Object> dto) {
+        Key key = new Key(resource, id);
+        Body cached = entries.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            return cached.json();
+        }
+
+        Body fresh = new Body(version, serialize(dto.get()));
+        entries.put(key, fresh);
+        return fresh.json();
+    }
+
+    public void evictAll(String resource, Collection<Long> ids) {
+        entries.invalidateAll(ids.stream().map(id -> new Key(resource, id)).toList());
+        invalidations.add(ids.size());
+    }
+
+    private byte[] serialize(Object dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto); // Jackson writes UTF-8
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + dto.getClass().getSimpleName(), ex);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "jsonResponse";
+    }
+
+    @Override
+    public CacheStatsDTO getStats() {
+        return CacheStatsDTO.from(entries.stats(), invalidations.sum(), entries.estimatedSize());
+    }
+}
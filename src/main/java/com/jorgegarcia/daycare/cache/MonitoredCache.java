@@ -0,0 +1,12 @@
+package com.jorgegarcia.daycare.cache;
+
+import com.jorgegarcia.daycare.dto.CacheStatsDTO;
+
+// Every in-memory cache we own implements this, so the admin stats endpoint
+// (and metrics) can list them all without knowing each one.
+public interface MonitoredCache {
+
+    String getName();
+
+    CacheStatsDTO getStats();
+}
@@ -0,0 +1,58 @@
+package com.jorgegarcia.daycare.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.jorgegarcia.daycare.dto.AttendanceCreateDTO;
+import com.jorgegarcia.daycare.dto.AttendanceEventDTO;
+import com.jorgegarcia.daycare.service.AttendanceService;
+
+@RestController
+@RequestMapping("/api/attendance")
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+
+    public AttendanceController(AttendanceService attendanceService) {
+        this.attendanceService = attendanceService;
+    }
+
+    // ============================================================
+    // 🍼 KIOSK: CHECK-IN / CHECK-OUT
+    // Queued and written in batches → 202 Accepted (shows up in the
+    // timelines a moment later). Queue full → 429 + Retry-After.
+    //
+    // URL: POST /api/attendance   {"childId":1,"type":"CHECK_IN"}
+    // ============================================================
+    @PostMapping
+    public ResponseEntity<Void> recordEvent(@RequestBody AttendanceCreateDTO dto) {
+        attendanceService.record(dto);
+        return ResponseEntity.accepted().build();
+    }
+
+    // ============================================================
+    // 🍼 DAILY TIMELINE OF ONE CHILD
+    // URL: GET /api/attendance/children/{childId}?date=2024-09-02   (default: today)
+    // ============================================================
+    @GetMapping("/children/{childId}")
+    public ResponseEntity<List<AttendanceEventDTO>> getChildTimeline(
+            @PathVariable Long childId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(attendanceService.getChildTimeline(childId, date != null ? date : LocalDate.now()));
+    }
+
+    // ============================================================
+    // 🍼 DAILY TIMELINE OF ONE CLASSROOM
+    // URL: GET /api/attendance/classrooms/{classroomId}?date=2024-09-02   (default: today)
+    // ============================================================
+    @GetMapping("/classrooms/{classroomId}")
+    public ResponseEntity<List<AttendanceEventDTO>> getClassroomTimeline(
+            @PathVariable Long classroomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(attendanceService.getClassroomTimeline(classroomId, date != null ? date : LocalDate.now()));
+    }
+}
@@ -0,0 +1,51 @@
+package com.jorgegarcia.daycare.controller;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.jorgegarcia.daycare.dto.LoginRequestDTO;
+import com.jorgegarcia.daycare.dto.LoginResponseDTO;
+import com.jorgegarcia.daycare.dto.RefreshRequestDTO;
+import com.jorgegarcia.daycare.security.AuthService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/auth")
+public class AuthController {
+
+    private final AuthService authService;
+
+    public AuthController(AuthService authService) {
+        this.authService = authService;
+    }
+
+    // ============================================================
+    // 🍼 LOGIN → access token (role inside, short-lived) + refresh token
+    // The password check runs on the login pool; this thread is released
+    // until it finishes (async response). Wrong credentials → 401,
+    // throttled or pool full → 429 + Retry-After.
+    // Behind a proxy, set server.forward-headers-strategy so the remote
+    // address is the real client.
+    //
+    // URL: POST /auth/login   {"username":"admin","password":"..."}
+    // ============================================================
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<LoginResponseDTO>> login(@RequestBody LoginRequestDTO dto,
+                                                                    HttpServletRequest request) {
+        return authService.login(dto, request.getRemoteAddr()).thenApply(ResponseEntity::ok);
+    }
+
+    // ============================================================
+    // 🍼 REFRESH → new token pair (the only call that rereads the user)
+    // Role / password changed since the refresh token was issued → 401.
+    //
+    // URL: POST /auth/refresh   {"refreshToken":"..."}
+    // ============================================================
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponseDTO> refresh(@RequestBody RefreshRequestDTO dto) {
+        return ResponseEntity.ok(authService.refresh(dto));
+    }
+}
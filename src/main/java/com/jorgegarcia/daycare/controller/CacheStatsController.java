@@ -0,0 +1,37 @@
+package com.jorgegarcia.daycare.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.jorgegarcia.daycare.cache.MonitoredCache;
+import com.jorgegarcia.daycare.dto.CacheStatsDTO;
+
+@RestController
+@RequestMapping("/api/admin/cache-stats")
+public class CacheStatsController {
+
+    private final List<MonitoredCache> caches;
+
+    public CacheStatsController(List<MonitoredCache> caches) {
+        this.caches = caches;
+    }
+
+    // ============================================================
+    // 🍼 HIT / MISS COUNTERS OF EVERY IN-MEMORY CACHE
+    // URL: GET /api/admin/cache-stats   (ADMIN only)
+    // ============================================================
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, CacheStatsDTO>> getCacheStats() {
+        Map<String, CacheStatsDTO> stats = new TreeMap<>();
+        for (MonitoredCache cache : caches) {
+            stats.put(cache.getName(), cache.getStats());
+        }
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -1,15 +1,24 @@
 package com.jorgegarcia.daycare.controller;
+import java.io.IOException;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.jorgegarcia.daycare.cache.JsonResponseCache;
+import com.jorgegarcia.daycare.dto.ClassroomCapacityDTO;
 import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
 import com.jorgegarcia.daycare.dto.ClassroomDTO;
 import com.jorgegarcia.daycare.dto.ClassroomPatchDTO;
 import com.jorgegarcia.daycare.dto.ClassroomUpdateDTO;
+import com.jorgegarcia.daycare.dto.CursorPageDTO;
+import com.jorgegarcia.daycare.dto.Versioned;
 import com.jorgegarcia.daycare.service.ClassroomService;
+import com.jorgegarcia.daycare.service.KeysetPaging;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -17,34 +26,66 @@ import jakarta.validation.Valid;
 public class ClassroomController {
 
     private final ClassroomService classService;
+    private final KeysetPaging paging;
+    private final JsonResponseCache jsonCache;
 
     // 👶 Constructor injection: clean, safe, best-practice
-    public ClassroomController(ClassroomService service) {
+    public ClassroomController(ClassroomService service, KeysetPaging paging, JsonResponseCache jsonCache) {
         this.classService = service;
+        this.paging = paging;
+        this.jsonCache = jsonCache;
     }
 
     // ============================================================
-    // 🍼 GET ALL CLASSROOMS
+    // 🍼 GET ALL CLASSROOMS (one page at a time)
     // Called when frontend wants to show every classroom we have.
+    // Follow "nextCursor" until it comes back null.
     //
-    // URL: GET /api/classrooms
+    // URL: GET /api/classrooms?cursor=...&size=50
     // ============================================================
     @GetMapping
-    public ResponseEntity<List<ClassroomDTO>> getAllClassrooms() {
-        // 🧸 Just return the list that the service already makes for us
-        return ResponseEntity.ok(classService.getAllClassrooms());
+    public ResponseEntity<CursorPageDTO<ClassroomDTO>> getAllClassrooms(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        // 🧸 Just return the page that the service already makes for us
+        return ResponseEntity.ok(classService.getClassroomsPage(cursor, paging.resolveSize(size)));
     }
 
     // ============================================================
     // 🍼 GET CLASSROOM BY ID
     // Used when frontend wants details of one specific classroom.
+    // Sends an ETag; polling dashboards send it back in If-None-Match
+    // and get a 304 decided from the version alone (no DTO, no JSON).
+    // With app.cache.json.enabled the 200 body is bytes serialized once per version.
     //
     // URL: GET /api/classrooms/{id}
     // ============================================================
     @GetMapping("/{id}")
-    public ResponseEntity<ClassroomDTO> getClassroomById(@PathVariable Long id) {
+    public ResponseEntity<ClassroomDTO> getClassroomById(@PathVariable Long id, WebRequest request,
+                                                         HttpServletResponse response) throws IOException {
         // 🧸 Service handles the “not found” error
-        return ResponseEntity.ok(classService.getClassromByClassroomId(id));
+        long version = classService.getClassroomVersion(id);
+        String etag = ETags.of(version);
+        if (request.checkNotModified(etag)) {
+            return null; // 304 already written
+        }
+        if (jsonCache.isEnabled() && JsonResponses.acceptsJson(request)) {
+            JsonResponses.write(response, etag, jsonCache.get(JsonResponseCache.CLASSROOM, id, version,
+                    () -> classService.getClassromByClassroomId(id)));
+            return null; // body already written
+        }
+        return ResponseEntity.ok().eTag(etag).body(classService.getClassromByClassroomId(id));
+    }
+
+    // ============================================================
+    // 🍼 GET CLASSROOM CAPACITY
+    // Capacity (null = no limit), children enrolled and seats left.
+    //
+    // URL: GET /api/classrooms/{id}/capacity
+    // ============================================================
+    @GetMapping("/{id}/capacity")
+    public ResponseEntity<ClassroomCapacityDTO> getClassroomCapacity(@PathVariable Long id) {
+        return ResponseEntity.ok(classService.getCapacity(id));
     }
 
     // ============================================================
@@ -90,10 +131,13 @@ public class ClassroomController {
     @PutMapping("/{id}")
     public ResponseEntity<ClassroomDTO> updateClassroom(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ClassroomUpdateDTO dto) {
 
-        ClassroomDTO updated = classService.updateClassroom(id, dto);
-        return ResponseEntity.ok(updated);
+        // 🧸 If-Match sent → 412 when someone else changed it first
+        // 🧸 ETag = version the body was built from (same transaction as the write)
+        Versioned<ClassroomDTO> updated = classService.updateClassroom(id, dto, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.version())).body(updated.body());
     }
 
     // ============================================================
@@ -105,10 +149,11 @@ public class ClassroomController {
     @PatchMapping("/{id}")
     public ResponseEntity<ClassroomDTO> patchClassroom(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ClassroomPatchDTO dto) {
 
-        ClassroomDTO patched = classService.patchClassroom(id, dto);
-        return ResponseEntity.ok(patched);
+        Versioned<ClassroomDTO> patched = classService.patchClassroom(id, dto, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(patched.version())).body(patched.body());
     }
 
     // ============================================================
@@ -1,33 +1,83 @@
 package com.jorgegarcia.daycare.controller;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import com.jorgegarcia.daycare.dto.BulkEnrollmentResultDTO;
+import com.jorgegarcia.daycare.dto.BulkMoveDTO;
+import com.jorgegarcia.daycare.dto.BulkMoveResultDTO;
+import com.jorgegarcia.daycare.dto.CursorPageDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildCreateDTO;
 import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.dto.Versioned;
 import com.jorgegarcia.daycare.service.DaycareChildService;
+import com.jorgegarcia.daycare.service.KeysetPaging;
 
 @RestController
 @RequestMapping("/api/daycareKids")
 public class DaycareChildController {
 
     private final DaycareChildService daycareService;
+    private final KeysetPaging paging;
+    private final ObjectWriter childWriter;
 
-    public DaycareChildController(DaycareChildService service) {
+    public DaycareChildController(DaycareChildService service, KeysetPaging paging, ObjectMapper objectMapper) {
         this.daycareService = service;
+        this.paging = paging;
+        this.childWriter = objectMapper.writerFor(DaycareChildDTO.class);
     }
 
-    // ------------------ GET ALL ------------------
+    // ------------------ GET ALL (paged: ?cursor=...&size=50) ------------------
     @GetMapping
-    public ResponseEntity<List<DaycareChildDTO>> getAllChildren() {
-        return ResponseEntity.ok(daycareService.getAllChildren());
+    public ResponseEntity<CursorPageDTO<DaycareChildDTO>> getAllChildren(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(daycareService.getChildrenPage(cursor, paging.resolveSize(size)));
+    }
+
+    // ------------------ EXPORT ALL (NDJSON, streamed) ------------------
+    // One JSON object per line, written while rows are still being read,
+    // so neither the entity list nor the DTO list is ever fully in memory.
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportChildren() {
+        StreamingResponseBody body = out -> {
+            OutputStream buffered = new BufferedOutputStream(out);
+            daycareService.exportAllChildren(child -> {
+                try {
+                    buffered.write(childWriter.writeValueAsBytes(child));
+                    buffered.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            buffered.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     // ------------------ GET BY ID ------------------
     @GetMapping("/{id}")
-    public ResponseEntity<DaycareChildDTO> getChildById(@PathVariable Long id) {
-        return ResponseEntity.ok(daycareService.getChildById(id));
+    public ResponseEntity<DaycareChildDTO> getChildById(@PathVariable Long id, WebRequest request) {
+        String etag = ETags.of(daycareService.getChildVersion(id));
+        if (request.checkNotModified(etag)) {
+            return null; // 304 already written
+        }
+        return ResponseEntity.ok().eTag(etag).body(daycareService.getChildById(id));
     }
 
     // ------------------ GET BY CLASSROOM ------------------
@@ -43,22 +93,41 @@ public class DaycareChildController {
         return ResponseEntity.status(201).body(created);
     }
 
+    // ------------------ BULK ENROLL (start of term) ------------------
+    // Bad rows come back in "failures"; every valid row is still saved
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkEnrollmentResultDTO> enrollChildren(@RequestBody List<DaycareChildCreateDTO> rows) {
+        return ResponseEntity.ok(daycareService.enrollChildren(rows));
+    }
+
+    // ------------------ BULK MOVE (cohort → next age group) ------------------
+    // {"childIds":[1,2,3],"toClassroomId":7}  or  {"fromClassroomId":4,"toClassroomId":7}
+    // One set-based UPDATE; returns how many children actually moved
+    @PostMapping("/move")
+    public ResponseEntity<BulkMoveResultDTO> moveChildren(@RequestBody BulkMoveDTO dto) {
+        return ResponseEntity.ok(daycareService.moveChildren(dto));
+    }
+
     // ------------------ UPDATE CHILD (PUT) ------------------
     @PutMapping("/{id}")
     public ResponseEntity<DaycareChildDTO> updateChild(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody DaycareChildDTO dto) {
-              
-        return ResponseEntity.ok(daycareService.updateChild(id, dto));
+
+        Versioned<DaycareChildDTO> updated = daycareService.updateChild(id, dto, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.version())).body(updated.body());
     }
 
     // ------------------ PARTIAL UPDATE (PATCH) ------------------
     @PatchMapping("/{id}")
     public ResponseEntity<DaycareChildDTO> patchChild(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody DaycareChildDTO dto) {
 
-        return ResponseEntity.ok(daycareService.patchChild(id, dto));
+        Versioned<DaycareChildDTO> patched = daycareService.patchChild(id, dto, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(patched.version())).body(patched.body());
     }
 
     // ------------------ DELETE CHILD ------------------
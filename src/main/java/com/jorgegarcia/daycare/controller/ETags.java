@@ -0,0 +1,36 @@
+package com.jorgegarcia.daycare.controller;
+
+import com.jorgegarcia.daycare.exception.PreconditionFailedException;
+
+// ============================================================
+// 🍼 Strong ETags built from the entity @Version
+//   GET  + If-None-Match → WebRequest.checkNotModified(etag) → 304
+//   PUT / PATCH + If-Match → expected version handed to the service
+// ============================================================
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // null → no If-Match header (or "*"): write without a version check
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String value = ifMatch.trim();
+        // If-Match uses strong comparison: weak or malformed tags never match
+        if (value.length() < 3 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a strong ETag returned by this API");
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match must be a strong ETag returned by this API");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.jorgegarcia.daycare.controller;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+// ============================================================
+// 🍼 Writes pre-serialized JSON (JsonResponseCache) straight to the
+// servlet output stream: no message converter, no Jackson.
+// Only when JSON is the client's first choice; anything else
+// (CBOR / Smile preferred, bad header...) goes through normal
+// content negotiation.
+// ============================================================
+final class JsonResponses {
+
+    // what the API can answer with (see BinaryFormatsConfig), JSON first as in the converter list
+    private static final List<MediaType> PRODUCIBLE = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR,
+            new MediaType("application", "x-jackson-smile"));
+
+    private JsonResponses() {
+    }
+
+    static boolean acceptsJson(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> types;
+        try {
+            types = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return false; // let Spring answer the bad header as usual
+        }
+
+        // same order Spring negotiates in: q-value first, then the more specific type
+        MimeTypeUtils.sortBySpecificity(types);
+        for (MediaType type : types) {
+            if (type.getQualityValue() == 0) {
+                continue; // "anything but this": handled below
+            }
+            if (PRODUCIBLE.stream().anyMatch(type::isCompatibleWith)) {
+                // the most preferred type we can produce: JSON itself or a wildcard (→ JSON)
+                return type.isCompatibleWith(MediaType.APPLICATION_JSON) && !refusesJson(types);
+            }
+        }
+        return false;
+    }
+
+    // application/json;q=0 next to a wildcard
+    private static boolean refusesJson(List<MediaType> types) {
+        return types.stream().anyMatch(type -> type.getQualityValue() == 0
+                && !type.isWildcardSubtype() && type.isCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    static void write(HttpServletResponse response, String etag, byte[] json) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setContentLength(json.length);
+        response.getOutputStream().write(json);
+    }
+}
@@ -0,0 +1,31 @@
+package com.jorgegarcia.daycare.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.jorgegarcia.daycare.service.RosterService;
+
+@RestController
+@RequestMapping("/api/admin/roster")
+public class RosterAdminController {
+
+    private final RosterService rosterService;
+
+    public RosterAdminController(RosterService rosterService) {
+        this.rosterService = rosterService;
+    }
+
+    // ============================================================
+    // 🍼 REBUILD THE CLASSROOM ROSTER FROM THE REAL TABLES
+    // Use after manual SQL fixes or if the roster ever drifts.
+    // URL: POST /api/admin/roster/rebuild   (ADMIN only)
+    // ============================================================
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Long>> rebuild() {
+        return ResponseEntity.ok(Map.of("rows", rosterService.rebuild()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.jorgegarcia.daycare.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.jorgegarcia.daycare.dto.SearchResultDTO;
+import com.jorgegarcia.daycare.exception.InvalidRequestException;
+import com.jorgegarcia.daycare.service.SearchService;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Value("${app.search.default-limit:10}")
+    private int defaultLimit;
+
+    @Value("${app.search.max-limit:50}")
+    private int maxLimit;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    // ============================================================
+    // 🍼 TYPEAHEAD (search box): children + teachers by name prefix
+    // Every word must start a name ("ana lo" → Ana López); teachers also by email.
+    // Served from the in-memory index, no SQL.
+    //
+    // URL: GET /api/search?q=ana&limit=10&type=all|children|teachers
+    // ============================================================
+    @GetMapping
+    public ResponseEntity<SearchResultDTO> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "all") String type) {
+
+        if (q.isBlank()) {
+            throw new InvalidRequestException("Search text is required");
+        }
+        int resolvedLimit = limit == null ? defaultLimit : limit;
+        if (resolvedLimit < 1) {
+            throw new InvalidRequestException("Limit must be at least 1");
+        }
+        resolvedLimit = Math.min(resolvedLimit, maxLimit);
+
+        boolean children = switch (type) {
+            case "all", "children" -> true;
+            case "teachers" -> false;
+            default -> throw new InvalidRequestException("Unknown type '%s' (all, children, teachers)".formatted(type));
+        };
+        boolean teachers = !type.equals("children");
+
+        return ResponseEntity.ok(searchService.search(q, resolvedLimit, children, teachers));
+    }
+}
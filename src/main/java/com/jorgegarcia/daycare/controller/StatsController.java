@@ -0,0 +1,32 @@
+package com.jorgegarcia.daycare.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.jorgegarcia.daycare.dto.StatsDTO;
+import com.jorgegarcia.daycare.service.StatsService;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final StatsService statsService;
+
+    public StatsController(StatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    // ============================================================
+    // 🍼 DASHBOARD NUMBERS
+    // Headcount per classroom, classrooms per teacher, age histogram
+    // (all counted in SQL, instead of downloading every classroom + child)
+    //
+    // URL: GET /api/stats   (ADMIN only)
+    // ============================================================
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StatsDTO> getStats() {
+        return ResponseEntity.ok(statsService.getStats());
+    }
+}
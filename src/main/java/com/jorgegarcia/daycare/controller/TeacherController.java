@@ -1,16 +1,23 @@
 package com.jorgegarcia.daycare.controller;
 
-import java.util.List;
+import java.io.IOException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.jorgegarcia.daycare.cache.JsonResponseCache;
+import com.jorgegarcia.daycare.dto.CursorPageDTO;
 import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
 import com.jorgegarcia.daycare.dto.TeacherPatchDTO;
 import com.jorgegarcia.daycare.dto.TeacherUpdateDTO;
 import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.dto.Versioned;
+import com.jorgegarcia.daycare.service.KeysetPaging;
 import com.jorgegarcia.daycare.service.TeacherService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @CrossOrigin(origins = "http://localhost:4200")
@@ -19,28 +26,47 @@ import jakarta.validation.Valid;
 public class TeacherController {
 
     private final TeacherService teacherService;
+    private final KeysetPaging paging;
+    private final JsonResponseCache jsonCache;
 
     // 👶 Constructor injection — clean & recommended
-    public TeacherController(TeacherService teacherService) {
+    public TeacherController(TeacherService teacherService, KeysetPaging paging, JsonResponseCache jsonCache) {
         this.teacherService = teacherService;
+        this.paging = paging;
+        this.jsonCache = jsonCache;
     }
 
     // ============================================================
-    // 🍼 GET ALL TEACHERS
-    // URL: GET /api/teachers
+    // 🍼 GET ALL TEACHERS (one page at a time)
+    // URL: GET /api/teachers?cursor=...&size=50
     // ============================================================
     @GetMapping
-    public ResponseEntity<List<TeacherDTO>> getAllTeachers() {
-        return ResponseEntity.ok(teacherService.getAllTeachers());
+    public ResponseEntity<CursorPageDTO<TeacherDTO>> getAllTeachers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(teacherService.getTeachersPage(cursor, paging.resolveSize(size)));
     }
 
     // ============================================================
     // 🍼 GET TEACHER BY ID
     // URL: GET /api/teachers/{id}
     // ============================================================
+    // If-None-Match with the current ETag → 304, decided from the version alone
+    // With app.cache.json.enabled the 200 body is bytes serialized once per version.
     @GetMapping("/{id}")
-    public ResponseEntity<TeacherDTO> getTeacherById(@PathVariable Long id) {
-        return ResponseEntity.ok(teacherService.getTeacherByTeacherId(id));
+    public ResponseEntity<TeacherDTO> getTeacherById(@PathVariable Long id, WebRequest request,
+                                                     HttpServletResponse response) throws IOException {
+        long version = teacherService.getTeacherVersion(id);
+        String etag = ETags.of(version);
+        if (request.checkNotModified(etag)) {
+            return null; // 304 already written
+        }
+        if (jsonCache.isEnabled() && JsonResponses.acceptsJson(request)) {
+            JsonResponses.write(response, etag, jsonCache.get(JsonResponseCache.TEACHER, id, version,
+                    () -> teacherService.getTeacherByTeacherId(id)));
+            return null; // body already written
+        }
+        return ResponseEntity.ok().eTag(etag).body(teacherService.getTeacherByTeacherId(id));
     }
 
     // ============================================================
@@ -67,10 +93,11 @@ public class TeacherController {
     @PutMapping("/{id}")
     public ResponseEntity<TeacherDTO> updateTeacher(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TeacherUpdateDTO dto) {
 
-        TeacherDTO updated = teacherService.updateTeacherById(id, dto);
-        return ResponseEntity.ok(updated);
+        Versioned<TeacherDTO> updated = teacherService.updateTeacherById(id, dto, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updated.version())).body(updated.body());
     }
 
     // ============================================================
@@ -82,10 +109,11 @@ public class TeacherController {
     @PatchMapping("/{id}")
     public ResponseEntity<TeacherDTO> patchTeacher(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TeacherPatchDTO dto) {
 
-        TeacherDTO patched = teacherService.patchTeacherById(id, dto);
-        return ResponseEntity.ok(patched);
+        Versioned<TeacherDTO> patched = teacherService.patchTeacherById(id, dto, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(patched.version())).body(patched.body());
     }
 
     // ============================================================
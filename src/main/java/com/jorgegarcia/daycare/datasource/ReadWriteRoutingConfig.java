@@ -0,0 +1,79 @@
+package com.jorgegarcia.daycare.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// ============================================================
+// 🍼 Primary + read replica (on when app.datasource.replica.jdbc-url is set)
+//   primaryDataSource  → spring.datasource.* (+ spring.datasource.hikari.*), Flyway migrates it
+//   replicaDataSource  → app.datasource.replica.* (Hikari properties: jdbc-url,
+//                        username, password, maximum-pool-size, ...)
+//   dataSource (@Primary, what JPA uses) → lazy proxy → ReadWriteRoutingDataSource
+// Without the property nothing here exists and Boot builds the single pool as usual.
+// ============================================================
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "jdbc-url")
+public class ReadWriteRoutingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingConfig.class);
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true); // a write that slips through fails instead of forking the data
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${app.datasource.replica.sticky-window:5s}") Duration stickyWindow,
+            @Value("${spring.jpa.open-in-view:true}") boolean openInView,
+            MeterRegistry registry) {
+
+        // Open-in-view holds the first connection for the whole request:
+        // a PUT that first read the version would then write on the replica
+        if (openInView) {
+            throw new IllegalStateException(
+                    "Replica routing needs spring.jpa.open-in-view=false (one connection per transaction)");
+        }
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, stickyWindow, registry);
+        routing.afterPropertiesSet();
+        log.info("Read replica on: read-only transactions → replica, read-your-writes window {}", stickyWindow);
+
+        // Connection fetched on the first statement, once @Transactional(readOnly) is known
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,152 @@
+package com.jorgegarcia.daycare.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// ============================================================
+// 🍼 Picks primary or replica for each new transaction's connection
+//   @Transactional(readOnly = true) → REPLICA
+//   anything else (writes, no transaction) → PRIMARY
+//   read-your-writes: a user whose write committed less than
+//   stickyWindow ago reads from the PRIMARY, so they never see the
+//   replica's lag on their own changes. Only a transaction that really
+//   sent an INSERT / UPDATE / DELETE / MERGE counts as a write: a
+//   read-write transaction that only read (cache miss on the primary)
+//   does not make its user sticky.
+// Must sit behind a LazyConnectionDataSourceProxy: the key is looked up
+// when the first statement runs, after the read-only flag is set.
+// ============================================================
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+
+    // Users with a write committed inside the window (entry expiry = end of window)
+    private final Cache<String, Boolean> recentWriters;
+
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter stickyRoutes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration stickyWindow,
+                                      MeterRegistry registry) {
+        this.primary = primary;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.primaryRoutes = route(registry, "primary");
+        this.replicaRoutes = route(registry, "replica");
+        this.stickyRoutes = route(registry, "primary_sticky");
+    }
+
+    private static Counter route(MeterRegistry registry, String target) {
+        return Counter.builder("daycare.datasource.routes")
+                .description("Connections handed out, by target database")
+                .tag("target", target)
+                .register(registry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return Route.PRIMARY;
+        }
+
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            stickyRoutes.increment();
+            return Route.PRIMARY;
+        }
+
+        replicaRoutes.increment();
+        return Route.REPLICA;
+    }
+
+    // Read-write transaction of a signed-in user → watch its statements for a write
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        String user = currentUser();
+        if (user == null
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return connection;
+        }
+        return writeWatching(connection, user);
+    }
+
+    // Hibernate prepares every DML statement, so prepareStatement / prepareCall see them all
+    private Connection writeWatching(Connection target, String user) {
+        AtomicBoolean wrote = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String sql
+                            && isWrite(sql) && wrote.compareAndSet(false, true)) {
+                        rememberWriteOnCommit(user);
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private static boolean isWrite(String sql) {
+        String head = sql.stripLeading();
+        return head.regionMatches(true, 0, "insert", 0, 6)
+                || head.regionMatches(true, 0, "update", 0, 6)
+                || head.regionMatches(true, 0, "delete", 0, 6)
+                || head.regionMatches(true, 0, "merge", 0, 5);
+    }
+
+    // The window starts when the write is visible on the primary, i.e. after commit
+    private void rememberWriteOnCommit(String user) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth == null || !auth.isAuthenticated() ? null : auth.getName();
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+}
@@ -0,0 +1,17 @@
+package com.jorgegarcia.daycare.dto;
+
+import java.time.LocalDateTime;
+
+import com.jorgegarcia.daycare.model.AttendanceType;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceCreateDTO {
+    private Long childId;
+    private AttendanceType type;
+    private LocalDateTime occurredAt; // null → time the server received it
+}
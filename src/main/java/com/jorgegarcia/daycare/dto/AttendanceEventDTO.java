@@ -0,0 +1,19 @@
+package com.jorgegarcia.daycare.dto;
+
+import java.time.LocalDateTime;
+
+import com.jorgegarcia.daycare.model.AttendanceType;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceEventDTO {
+    private Long id;
+    private Long childId;
+    private Long classroomId;
+    private AttendanceType type;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,15 @@
+package com.jorgegarcia.daycare.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkEnrollmentResultDTO {
+    private int requested;
+    private List<DaycareChildDTO> enrolled;
+    private List<BulkRowErrorDTO> failures; // rows that were skipped, the rest still got saved
+}
@@ -0,0 +1,16 @@
+package com.jorgegarcia.daycare.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+// Either childIds OR fromClassroomId (the whole classroom moves)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkMoveDTO {
+    private List<Long> childIds;
+    private Long fromClassroomId;
+    private Long toClassroomId;
+}
@@ -0,0 +1,12 @@
+package com.jorgegarcia.daycare.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkMoveResultDTO {
+    private Long toClassroomId;
+    private int moved; // rows changed (children already in the target are not counted)
+}
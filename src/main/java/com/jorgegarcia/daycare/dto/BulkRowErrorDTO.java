@@ -0,0 +1,12 @@
+package com.jorgegarcia.daycare.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRowErrorDTO {
+    private int index;      // position in the request list
+    private String message;
+}
@@ -0,0 +1,29 @@
+package com.jorgegarcia.daycare.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDTO {
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;      // dropped by size limit / TTL
+    private long invalidations;  // dropped on purpose after a write
+    private long size;
+
+    public static CacheStatsDTO from(CacheStats stats, long invalidations, long size) {
+        return CacheStatsDTO.builder()
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictions(stats.evictionCount())
+                .invalidations(invalidations)
+                .size(size)
+                .build();
+    }
+}
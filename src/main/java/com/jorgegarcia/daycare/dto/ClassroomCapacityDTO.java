@@ -0,0 +1,18 @@
+package com.jorgegarcia.daycare.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClassroomCapacityDTO {
+    private Long classroomId;
+    private Integer capacity;   // null → no limit
+    private int enrolled;
+
+    // null → no limit
+    public Integer getAvailable() {
+        return capacity == null ? null : capacity - enrolled;
+    }
+}
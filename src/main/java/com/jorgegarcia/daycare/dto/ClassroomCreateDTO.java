@@ -2,6 +2,7 @@ package com.jorgegarcia.daycare.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
 @Data
 @NoArgsConstructor
@@ -12,4 +13,10 @@ public class ClassroomCreateDTO {
   private String className;
   @NotNull
   private Long teacherId;
+  @PositiveOrZero
+  private Integer capacity; // null → no limit
+
+  public ClassroomCreateDTO(String className, Long teacherId) {
+    this(className, teacherId, null);
+  }
 }
@@ -1,5 +1,6 @@
 package com.jorgegarcia.daycare.dto;
 
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
 
 @Data
@@ -9,4 +10,6 @@ import lombok.*;
 public class ClassroomPatchDTO {
     private String className;
     private Long teacherId; // optional
+    @PositiveOrZero
+    private Integer capacity; // optional (null → unchanged)
 }
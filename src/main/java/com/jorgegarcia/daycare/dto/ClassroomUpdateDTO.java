@@ -2,6 +2,7 @@ package com.jorgegarcia.daycare.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
 
 @Data
@@ -14,4 +15,7 @@ public class ClassroomUpdateDTO {
 
     @NotNull
     private Long teacherId;
+
+    @PositiveOrZero
+    private Integer capacity; // null → no limit
 }
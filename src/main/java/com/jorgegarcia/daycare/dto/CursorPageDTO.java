@@ -0,0 +1,15 @@
+package com.jorgegarcia.daycare.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private int size;
+    private String nextCursor; // null → this was the last page
+}
@@ -0,0 +1,13 @@
+package com.jorgegarcia.daycare.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginRequestDTO {
+    private String username;
+    @ToString.Exclude
+    private String password;
+}
@@ -0,0 +1,14 @@
+package com.jorgegarcia.daycare.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginResponseDTO {
+    private String token;         // access token (role inside, short-lived)
+    private String tokenType;     // always "Bearer"
+    private long expiresIn;       // seconds, access token
+    private String refreshToken;  // only for POST /auth/refresh
+}
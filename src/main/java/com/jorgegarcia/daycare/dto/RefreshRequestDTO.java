@@ -0,0 +1,12 @@
+package com.jorgegarcia.daycare.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshRequestDTO {
+    @ToString.Exclude
+    private String refreshToken;
+}
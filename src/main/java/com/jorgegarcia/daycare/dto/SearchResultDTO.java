@@ -0,0 +1,15 @@
+package com.jorgegarcia.daycare.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultDTO {
+    private List<DaycareChildSummaryDTO> children;
+    private List<TeacherSummaryDTO> teachers;
+    private boolean truncated; // scan limit reached → more matches may exist, type more letters
+}
@@ -0,0 +1,18 @@
+package com.jorgegarcia.daycare.dto;
+
+import java.util.Map;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatsDTO {
+    private long totalChildren;
+    private long totalClassrooms;
+    private long totalTeachers;
+    private Map<Long, Long> childrenPerClassroom;   // classroomId → children
+    private Map<Long, Long> classroomsPerTeacher;   // teacherId → classrooms
+    private Map<Long, Long> childrenByAge;          // age → children
+}
@@ -0,0 +1,6 @@
+package com.jorgegarcia.daycare.dto;
+
+// A write's response body + the entity version it was built from (the ETag),
+// both read inside the write transaction
+public record Versioned<T>(T body, Long version) {
+}
@@ -0,0 +1,9 @@
+package com.jorgegarcia.daycare.exception;
+
+// 409: enrolling would put the classroom over its capacity
+public class ClassroomFullException extends RuntimeException {
+
+  public ClassroomFullException(String msg) {
+    super(msg);
+  }
+}
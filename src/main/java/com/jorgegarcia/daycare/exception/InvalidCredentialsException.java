@@ -0,0 +1,8 @@
+package com.jorgegarcia.daycare.exception;
+
+// 401: unknown username or wrong password (never says which one)
+public class InvalidCredentialsException extends RuntimeException {
+  public InvalidCredentialsException(String msg) {
+    super(msg);
+  }
+}
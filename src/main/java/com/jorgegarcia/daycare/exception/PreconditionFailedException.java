@@ -0,0 +1,15 @@
+package com.jorgegarcia.daycare.exception;
+
+// If-Match did not match the current version (someone else changed the row first)
+public class PreconditionFailedException extends RuntimeException {
+
+  public PreconditionFailedException(String msg) {
+    super(msg);
+  }
+
+  public static void requireVersion(Long expected, Long actual, String what) {
+    if (expected != null && !expected.equals(actual)) {
+      throw new PreconditionFailedException("%s was modified (current version %d)".formatted(what, actual));
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.jorgegarcia.daycare.exception;
+
+// 429: we are saturated right now, the client should retry after a pause
+public class TooManyRequestsException extends RuntimeException {
+
+  private final int retryAfterSeconds;
+
+  public TooManyRequestsException(String msg, int retryAfterSeconds) {
+    super(msg);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public int getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -0,0 +1,42 @@
+package com.jorgegarcia.daycare.metrics;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+// ============================================================
+// 🍼 Async MVC work (Callable, StreamingResponseBody → the NDJSON export)
+// runs on a task-executor thread after the request thread has left:
+// bind the request's SQL window there for the duration of the task.
+// Registered in MetricsConfig.
+// ============================================================
+class SqlStatementAsyncInterceptor implements CallableProcessingInterceptor {
+
+    private static final ThreadLocal<LongAdder> PREVIOUS = new ThreadLocal<>();
+
+    private final SqlStatementCounter counter;
+
+    SqlStatementAsyncInterceptor(SqlStatementCounter counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object window = request.getAttribute(SqlStatementMetricsFilter.WINDOW_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (window instanceof LongAdder statements) {
+            PREVIOUS.set(counter.current());
+            counter.bind(statements);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        if (request.getAttribute(SqlStatementMetricsFilter.WINDOW_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            counter.bind(PREVIOUS.get()); // executor thread goes back to the pool clean
+            PREVIOUS.remove();
+        }
+    }
+}
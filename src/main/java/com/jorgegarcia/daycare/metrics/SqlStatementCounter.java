@@ -0,0 +1,78 @@
+package com.jorgegarcia.daycare.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// ============================================================
+// 🍼 Counts the SQL statements Hibernate prepares for the current request
+// Hibernate calls inspect() for every statement (registered in MetricsConfig);
+// SqlStatementMetricsFilter opens / closes the window around each request.
+// The window is per request, not per thread: work the request hands to
+// another thread carries it along —
+//   stats- threads, login pool → propagate(...)
+//   async export (StreamingResponseBody) → SqlStatementAsyncInterceptor
+// The attendance writer is NOT counted: one batch mixes events from many
+// requests, so its statements belong to none of them.
+// ============================================================
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<LongAdder> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        LongAdder count = CURRENT.get();
+        if (count != null) {
+            count.increment(); // LongAdder → several threads of one request can count at once
+        }
+        return sql; // never rewrites the SQL
+    }
+
+    // Opens a window on this thread; read it with sum() once the request is done
+    public LongAdder start() {
+        LongAdder window = new LongAdder();
+        CURRENT.set(window);
+        return window;
+    }
+
+    // Stops counting on this thread; returns what was counted so far
+    public long stop() {
+        LongAdder count = CURRENT.get();
+        CURRENT.remove();
+        return count == null ? 0 : count.sum();
+    }
+
+    // The window of the request running on this thread (null outside one)
+    LongAdder current() {
+        return CURRENT.get();
+    }
+
+    // Counts into the given window on this thread from now on (null → stop counting)
+    void bind(LongAdder window) {
+        if (window == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(window);
+        }
+    }
+
+    // ✨ Wraps a task handed to another thread so its statements count for this request
+    public <T> Supplier<T> propagate(Supplier<T> task) {
+        LongAdder window = CURRENT.get();
+        if (window == null) {
+            return task; // not inside a request → nothing to carry
+        }
+        return () -> {
+            LongAdder previous = CURRENT.get();
+            bind(window);
+            try {
+                return task.get();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.jorgegarcia.daycare.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+// ============================================================
+// 🍼 "SQL statements per request", tagged like http.server.requests
+//   http.server.sql.statements{method, uri, status}
+// uri = the route template (/api/classrooms/{id}), so ids never blow up the tags.
+// A jump in the mean / max for one uri = new N+1 on that endpoint.
+// Async requests (export, login) are recorded when the async work
+// completes, so the statements of the worker thread are in the count.
+// ============================================================
+@Component
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC = "http.server.sql.statements";
+
+    // The request's window, for SqlStatementAsyncInterceptor on the async thread
+    static final String WINDOW_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".window";
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry registry;
+
+    public SqlStatementMetricsFilter(SqlStatementCounter counter, MeterRegistry registry) {
+        this.counter = counter;
+        this.registry = registry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        LongAdder statements = counter.start();
+        request.setAttribute(WINDOW_ATTRIBUTE, statements);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            counter.stop();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnCompletion(request, response, statements));
+            } else {
+                record(request, response, statements.sum());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long statements) {
+        DistributionSummary.builder(METRIC)
+                .description("SQL statements executed while handling one request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uriTemplate(request))
+                .tag("status", String.valueOf(response.getStatus()))
+                .register(registry)
+                .record(statements);
+    }
+
+    // 🧸 onComplete always follows a timeout / error → recorded exactly once, with the final status
+    private class RecordOnCompletion implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final LongAdder statements;
+
+        RecordOnCompletion(HttpServletRequest request, HttpServletResponse response, LongAdder statements) {
+            this.request = request;
+            this.response = response;
+            this.statements = statements;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response, statements.sum());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    // Unmatched paths (404s, security rejects) share one tag value
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
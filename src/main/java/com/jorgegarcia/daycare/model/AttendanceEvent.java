@@ -0,0 +1,45 @@
+package com.jorgegarcia.daycare.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// ============================================================
+// 🍼 One kiosk check-in / check-out (append-only, never updated)
+// Plain ids instead of @ManyToOne: the writer inserts hundreds per
+// transaction and never needs the child or classroom entities.
+// classroomId = the child's classroom when the event was written,
+// so old timelines don't move when a child changes classroom.
+// ============================================================
+@Entity
+@Table(name = "attendance_event", indexes = {
+        @Index(name = "idx_attendance_child_time", columnList = "child_id, occurred_at"),
+        @Index(name = "idx_attendance_classroom_time", columnList = "classroom_id, occurred_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceEvent {
+
+    // SEQUENCE (pooled) so a whole batch is inserted with JDBC batching
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_event_seq")
+    @SequenceGenerator(name = "attendance_event_seq", sequenceName = "attendance_event_seq", allocationSize = 500)
+    private Long id;
+
+    @Column(name = "child_id", nullable = false)
+    private Long childId;
+
+    // null → the child had no classroom
+    @Column(name = "classroom_id")
+    private Long classroomId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AttendanceType type;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
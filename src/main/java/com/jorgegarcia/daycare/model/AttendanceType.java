@@ -0,0 +1,6 @@
+package com.jorgegarcia.daycare.model;
+
+public enum AttendanceType {
+    CHECK_IN,
+    CHECK_OUT
+}
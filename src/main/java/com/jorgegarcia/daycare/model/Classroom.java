@@ -2,10 +2,14 @@ package com.jorgegarcia.daycare.model;
 
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@DynamicUpdate // UPDATE only the columns that changed (a PATCH of one field sends one column)
+@Table(indexes = @Index(name = "idx_classroom_teacher", columnList = "teacher_id")) // see db/migration V2
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,8 +20,24 @@ public class Classroom {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Optimistic locking + ETag. Also bumped when a child joins, leaves or changes
+    // and when the teacher is renamed: ClassroomDTO shows both
+    @Version
+    private Long version;
+
     private String className;
 
+    // null → no limit. Changed only through ClassroomRepository.updateCapacity
+    // (checked against enrolledCount in the same statement)
+    @Column(updatable = false)
+    private Integer capacity;
+
+    // Children in the room, maintained ONLY by conditional UPDATEs
+    // (reserveSeats / releaseSeats): never written from the entity, so a
+    // stale loaded copy can't overwrite a concurrent enrollment
+    @Column(name = "enrolled_count", nullable = false, insertable = false, updatable = false)
+    private int enrolledCount;
+
     // Each class has one teacher, declared so JPA build the relations
     @ManyToOne
     @JoinColumn(name = "teacher_id")
@@ -0,0 +1,45 @@
+package com.jorgegarcia.daycare.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// ============================================================
+// 🍼 Read model behind ClassroomDTO (denormalized, no joins on read)
+// One header row per classroom (childId = null, so empty classrooms show up)
+// + one row per child, each with the names already concatenated.
+// Kept in sync by RosterService inside the write transactions.
+// ============================================================
+@Entity
+@Table(name = "classroom_roster", indexes = {
+        @Index(name = "idx_roster_classroom_child", columnList = "classroom_id, child_id"),
+        @Index(name = "idx_roster_child", columnList = "child_id"),
+        @Index(name = "idx_roster_teacher", columnList = "teacher_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClassroomRosterRow {
+
+    // SEQUENCE so a rebuild / bulk enrollment inserts in JDBC batches
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "classroom_roster_seq")
+    @SequenceGenerator(name = "classroom_roster_seq", sequenceName = "classroom_roster_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "classroom_id", nullable = false)
+    private Long classroomId;
+
+    private String className;
+
+    @Column(name = "teacher_id")
+    private Long teacherId;
+
+    private String teacherFullName;
+
+    // null → classroom header row
+    @Column(name = "child_id")
+    private Long childId;
+
+    private String childFullName;
+}
@@ -1,19 +1,30 @@
 package com.jorgegarcia.daycare.model;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@DynamicUpdate // dirty columns only: a name PATCH leaves age / classroom_id out of the UPDATE
+@Table(indexes = @Index(name = "idx_daycare_child_classroom", columnList = "classroom_id")) // see db/migration V2
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class DaycareChild {
 
+    // SEQUENCE (not IDENTITY) so Hibernate knows the ids before INSERT
+    // and can send inserts in JDBC batches; 50 ids reserved per round trip
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daycare_child_seq")
+    @SequenceGenerator(name = "daycare_child_seq", sequenceName = "daycare_child_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic locking + ETag: the child's own writes, plus a rename of its classroom
+    @Version
+    private Long version;
+
     private String firstName;
     private String lastName;
     private Integer age;
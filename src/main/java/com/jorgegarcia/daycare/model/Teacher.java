@@ -2,10 +2,14 @@ package com.jorgegarcia.daycare.model;
 
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@DynamicUpdate // changed columns only (a rename → first_name, last_name, version)
+@Table(indexes = @Index(name = "ux_teacher_email", columnList = "email", unique = true)) // see db/migration V2
 @Data // auto-generates getters, setters, equals, toString
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,6 +20,11 @@ public class Teacher {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Optimistic locking + ETag. Also bumped when one of the teacher's
+    // classrooms is added, renamed, reassigned or deleted (TeacherDTO lists them)
+    @Version
+    private Long version;
+
     private String firstName;
     private String lastName;
 
@@ -0,0 +1,34 @@
+package com.jorgegarcia.daycare.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jorgegarcia.daycare.model.AttendanceEvent;
+
+@Repository
+public interface AttendanceEventRepository extends JpaRepository<AttendanceEvent, Long> {
+
+  // Daily timelines: [from, to) on (child_id | classroom_id, occurred_at) indexes
+  @Query("""
+      select e from AttendanceEvent e
+      where e.childId = :childId and e.occurredAt >= :from and e.occurredAt < :to
+      order by e.occurredAt, e.id
+      """)
+  List<AttendanceEvent> findChildTimeline(@Param("childId") Long childId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+  @Query("""
+      select e from AttendanceEvent e
+      where e.classroomId = :classroomId and e.occurredAt >= :from and e.occurredAt < :to
+      order by e.occurredAt, e.id
+      """)
+  List<AttendanceEvent> findClassroomTimeline(@Param("classroomId") Long classroomId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,7 @@
+package com.jorgegarcia.daycare.repository;
+
+// Projection: child id → current classroom id (null when unassigned)
+public interface ChildClassroomView {
+    Long getId();
+    Long getClassroomId();
+}
@@ -0,0 +1,8 @@
+package com.jorgegarcia.daycare.repository;
+
+// Projection: just what the search index needs (no classroom join)
+public interface ChildNameView {
+    Long getId();
+    String getFirstName();
+    String getLastName();
+}
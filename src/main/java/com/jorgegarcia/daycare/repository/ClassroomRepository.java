@@ -1,16 +1,96 @@
 package com.jorgegarcia.daycare.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.jorgegarcia.daycare.dto.ClassroomCapacityDTO;
 import com.jorgegarcia.daycare.model.Classroom;
 
 @Repository
 public interface ClassroomRepository extends JpaRepository<Classroom,Long>{
 
-  //_ (underscore indica navegar a campo interno)
-  List<Classroom> findByChildren_Id(Long id);
-  
+  // Roster rebuild: teacher + children come in the same SELECT (no N+1)
+  @EntityGraph(attributePaths = {"teacher", "children"})
+  @Query("select distinct c from Classroom c order by c.id")
+  List<Classroom> findAllWithTeacherAndChildren();
+
+  // ETag check without loading the entity
+  @Query("select c.version from Classroom c where c.id = :id")
+  Optional<Long> findVersionById(@Param("id") Long id);
+
+  // Delete path: the teacher to invalidate, without loading the classroom
+  @Query("select c.teacher.id from Classroom c where c.id = :id")
+  Optional<Long> findTeacherIdById(@Param("id") Long id);
+
+  // One DELETE, only if no child is still assigned (0 rows → not empty).
+  // Nothing loaded, no cascade walk over the children collection
+  @Modifying
+  @Transactional
+  @Query("""
+      delete from Classroom c
+      where c.id = :id and not exists (select 1 from DaycareChild d where d.classroom.id = :id)
+      """)
+  int deleteRowByIdIfEmpty(@Param("id") Long id);
+
+  // A ClassroomDTO also shows teacher + children → bump when THEY change
+  @Modifying
+  @Transactional
+  @Query("update Classroom c set c.version = c.version + 1 where c.id in :ids")
+  int bumpVersions(@Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Transactional
+  @Query("update Classroom c set c.version = c.version + 1 where c.teacher.id = :teacherId")
+  int bumpVersionsByTeacherId(@Param("teacherId") Long teacherId);
+
+  // ============================================================
+  // 🍼 Capacity: check + change in ONE statement. The row lock it takes
+  // serializes only enrollments into THIS classroom; 0 rows → room full.
+  // ============================================================
+  @Modifying
+  @Transactional
+  @Query("""
+      update Classroom c set c.enrolledCount = c.enrolledCount + :seats
+      where c.id = :id and (c.capacity is null or c.enrolledCount + :seats <= c.capacity)
+      """)
+  int reserveSeats(@Param("id") Long id, @Param("seats") int seats);
+
+  @Modifying
+  @Transactional
+  @Query("update Classroom c set c.enrolledCount = c.enrolledCount - :seats where c.id = :id")
+  int releaseSeats(@Param("id") Long id, @Param("seats") int seats);
+
+  // 0 rows → more children enrolled than the new capacity
+  @Modifying
+  @Transactional
+  @Query("update Classroom c set c.capacity = :capacity where c.id = :id and c.enrolledCount <= :capacity")
+  int updateCapacity(@Param("id") Long id, @Param("capacity") int capacity);
+
+  @Modifying
+  @Transactional
+  @Query("update Classroom c set c.capacity = null where c.id = :id")
+  int removeCapacity(@Param("id") Long id);
+
+  @Query("""
+      select new com.jorgegarcia.daycare.dto.ClassroomCapacityDTO(c.id, c.capacity, c.enrolledCount)
+      from Classroom c where c.id = :id
+      """)
+  Optional<ClassroomCapacityDTO> findCapacityById(@Param("id") Long id);
+
+  // Stats: headcount per classroom (left join → empty classrooms count as 0)
+  @Query("""
+      select c.id as groupKey, count(ch.id) as total
+      from Classroom c left join c.children ch
+      group by c.id
+      """)
+  List<GroupCount> countChildrenPerClassroom();
 }
@@ -0,0 +1,98 @@
+package com.jorgegarcia.daycare.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jorgegarcia.daycare.model.ClassroomRosterRow;
+
+@Repository
+public interface ClassroomRosterRepository extends JpaRepository<ClassroomRosterRow, Long> {
+
+  // Reads: range scans on idx_roster_classroom_child, grouped by classroom
+  @Query("select r from ClassroomRosterRow r where r.classroomId = :classroomId order by r.childId")
+  List<ClassroomRosterRow> findByClassroomId(@Param("classroomId") Long classroomId);
+
+  @Query("select r from ClassroomRosterRow r where r.classroomId in :ids order by r.classroomId, r.childId")
+  List<ClassroomRosterRow> findByClassroomIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("""
+      select r from ClassroomRosterRow r
+      where r.classroomId in (select x.classroomId from ClassroomRosterRow x where x.childId = :childId)
+      order by r.classroomId, r.childId
+      """)
+  List<ClassroomRosterRow> findClassroomsOfChild(@Param("childId") Long childId);
+
+  // Keyset page over the header rows (one per classroom)
+  @Query("select r.classroomId from ClassroomRosterRow r where r.childId is null and r.classroomId > :afterId order by r.classroomId")
+  List<Long> findClassroomIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+  // Writes: called by RosterService, joining the service's write transaction
+  @Modifying
+  @Transactional
+  @Query("""
+      update ClassroomRosterRow r
+      set r.className = :className, r.teacherId = :teacherId, r.teacherFullName = :teacherFullName
+      where r.classroomId = :classroomId
+      """)
+  int updateClassroom(@Param("classroomId") Long classroomId, @Param("className") String className,
+                      @Param("teacherId") Long teacherId, @Param("teacherFullName") String teacherFullName);
+
+  // Bulk move: child rows take the target classroom's header values
+  @Modifying
+  @Transactional
+  @Query("""
+      update ClassroomRosterRow r
+      set r.classroomId = :classroomId, r.className = :className,
+          r.teacherId = :teacherId, r.teacherFullName = :teacherFullName
+      where r.childId in :childIds
+      """)
+  int moveChildren(@Param("childIds") Collection<Long> childIds, @Param("classroomId") Long classroomId,
+                   @Param("className") String className, @Param("teacherId") Long teacherId,
+                   @Param("teacherFullName") String teacherFullName);
+
+  @Modifying
+  @Transactional
+  @Query("""
+      update ClassroomRosterRow r
+      set r.classroomId = :classroomId, r.className = :className,
+          r.teacherId = :teacherId, r.teacherFullName = :teacherFullName
+      where r.classroomId = :fromClassroomId and r.childId is not null
+      """)
+  int moveAllChildren(@Param("fromClassroomId") Long fromClassroomId, @Param("classroomId") Long classroomId,
+                      @Param("className") String className, @Param("teacherId") Long teacherId,
+                      @Param("teacherFullName") String teacherFullName);
+
+  @Modifying
+  @Transactional
+  @Query("update ClassroomRosterRow r set r.teacherFullName = :fullName where r.teacherId = :teacherId")
+  int updateTeacherName(@Param("teacherId") Long teacherId, @Param("fullName") String fullName);
+
+  @Modifying
+  @Transactional
+  @Query("update ClassroomRosterRow r set r.childFullName = :fullName where r.childId = :childId")
+  int updateChildName(@Param("childId") Long childId, @Param("fullName") String fullName);
+
+  @Modifying
+  @Transactional
+  @Query("delete from ClassroomRosterRow r where r.childId = :childId")
+  int deleteByChildId(@Param("childId") Long childId);
+
+  @Modifying
+  @Transactional
+  @Query("delete from ClassroomRosterRow r where r.classroomId = :classroomId")
+  int deleteByClassroomId(@Param("classroomId") Long classroomId);
+
+  // Teacher deleted with its classrooms (idx_roster_teacher): header + child rows in one go
+  @Modifying
+  @Transactional
+  @Query("delete from ClassroomRosterRow r where r.teacherId = :teacherId")
+  int deleteByTeacherId(@Param("teacherId") Long teacherId);
+}
@@ -1,14 +1,98 @@
 package com.jorgegarcia.daycare.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.jorgegarcia.daycare.model.Classroom;
 import com.jorgegarcia.daycare.model.DaycareChild;
+
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface DaycareChildRepository extends JpaRepository<DaycareChild, Long>{
 
   List<DaycareChild> findByClassroom_Id(Long classroomId);
-  
+
+  // Keyset page: classroom is a to-one join, so LIMIT still runs in SQL
+  @EntityGraph(attributePaths = "classroom")
+  List<DaycareChild> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+  // ETag check without loading the entity
+  @Query("select c.version from DaycareChild c where c.id = :id")
+  Optional<Long> findVersionById(@Param("id") Long id);
+
+  // A DaycareChildDTO also shows the class name → bump when the classroom is renamed
+  @Modifying
+  @Transactional
+  @Query("update DaycareChild c set c.version = c.version + 1 where c.classroom.id = :classroomId")
+  int bumpVersionsByClassroomId(@Param("classroomId") Long classroomId);
+
+  // Export: rows come from an open JDBC cursor, 500 at a time,
+  // instead of one giant List. Must be consumed inside a transaction.
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("select c from DaycareChild c join fetch c.classroom order by c.id")
+  Stream<DaycareChild> streamAllWithClassroom();
+
+  // Search index rebuild: names only, one query
+  @Query("select c.id as id, c.firstName as firstName, c.lastName as lastName from DaycareChild c")
+  List<ChildNameView> findAllNames();
+
+  // ============================================================
+  // 🍼 Bulk move: validate with one GROUP BY, move with one UPDATE
+  // (version + 1 → every moved child gets a new ETag)
+  // ============================================================
+  @Query("""
+      select c.classroom.id as groupKey, count(c.id) as total
+      from DaycareChild c
+      where c.id in :ids
+      group by c.classroom.id
+      """)
+  List<GroupCount> countPerClassroomByIdIn(@Param("ids") Collection<Long> ids);
+
+  long countByClassroom_Id(Long classroomId);
+
+  @Modifying
+  @Transactional
+  @Query("""
+      update DaycareChild c set c.classroom = :target, c.version = c.version + 1
+      where c.id in :ids and c.classroom <> :target
+      """)
+  int moveToClassroom(@Param("ids") Collection<Long> ids, @Param("target") Classroom target);
+
+  @Modifying
+  @Transactional
+  @Query("update DaycareChild c set c.classroom = :target, c.version = c.version + 1 where c.classroom.id = :fromId")
+  int moveAllToClassroom(@Param("fromId") Long fromClassroomId, @Param("target") Classroom target);
+
+  // Delete without loading the child (+ its classroom + teacher, eager joins)
+  @Modifying
+  @Transactional
+  @Query("delete from DaycareChild c where c.id = :id")
+  int deleteRowById(@Param("id") Long id);
+
+  // Attendance writer (and child delete): classroom of every child, one query
+  @Query("select c.id as id, c.classroom.id as classroomId from DaycareChild c where c.id in :ids")
+  List<ChildClassroomView> findClassroomIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+  // Stats: age histogram; children without an age come back as one null-key row
+  // (StatsService counts them in the total, not in the histogram)
+  @Query("""
+      select cast(c.age as Long) as groupKey, count(c.id) as total
+      from DaycareChild c
+      group by c.age
+      """)
+  List<GroupCount> countByAge();
 }
@@ -0,0 +1,9 @@
+package com.jorgegarcia.daycare.repository;
+
+// Projection for "select x as groupKey, count(..) as total ... group by x" queries
+public interface GroupCount {
+
+  Long getGroupKey();
+
+  Long getTotal();
+}
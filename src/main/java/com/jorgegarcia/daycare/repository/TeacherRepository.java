@@ -1,9 +1,17 @@
 package com.jorgegarcia.daycare.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.jorgegarcia.daycare.model.Teacher;
 
@@ -11,5 +19,39 @@ import com.jorgegarcia.daycare.model.Teacher;
 public interface TeacherRepository extends JpaRepository<Teacher,Long>{
 
   Optional<Teacher> findByEmail(String email);
-  
+
+  // Keyset page: ids first, then one fetch of teachers + their classes
+  @Query("select t.id from Teacher t where t.id > :afterId order by t.id")
+  List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+  // ETag check without loading the entity
+  @Query("select t.version from Teacher t where t.id = :id")
+  Optional<Long> findVersionById(@Param("id") Long id);
+
+  // One DELETE for a teacher without classrooms (0 rows → missing or still teaching)
+  @Modifying
+  @Transactional
+  @Query("""
+      delete from Teacher t
+      where t.id = :id and not exists (select 1 from Classroom c where c.teacher.id = :id)
+      """)
+  int deleteRowByIdIfNoClassrooms(@Param("id") Long id);
+
+  // A TeacherDTO also lists the classrooms → bump when one of them changes
+  @Modifying
+  @Transactional
+  @Query("update Teacher t set t.version = t.version + 1 where t.id in :ids")
+  int bumpVersions(@Param("ids") Collection<Long> ids);
+
+  @EntityGraph(attributePaths = "classes")
+  @Query("select distinct t from Teacher t where t.id in :ids order by t.id")
+  List<Teacher> findWithClassesByIdIn(@Param("ids") Collection<Long> ids);
+
+  // Stats: classrooms per teacher (left join → teachers without classes count as 0)
+  @Query("""
+      select t.id as groupKey, count(c.id) as total
+      from Teacher t left join t.classes c
+      group by t.id
+      """)
+  List<GroupCount> countClassroomsPerTeacher();
 }
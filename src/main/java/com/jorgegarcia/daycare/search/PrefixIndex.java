@@ -0,0 +1,163 @@
+package com.jorgegarcia.daycare.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+// ============================================================
+// 🍼 In-memory typeahead index: word prefix → documents
+// Every word of every field is stored as a sorted key "word\0id",
+// so "all words starting with 'an'" is one range scan of the skip list:
+// O(log n) to find the start, then stop after `limit` hits.
+// Reads never lock; writes (one doc at a time) are serialized.
+//
+//   "ana"        → Ana López, Anabel Ruiz ...
+//   "ana lo"     → every query word must prefix some word of the doc
+//   "marina@da"  → emails are also indexed whole
+// ============================================================
+public class PrefixIndex {
+
+    private static final char SEPARATOR = '\u0000';       // sorts before any letter
+    private static final char RANGE_END = '\uffff';
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+
+    // Upper bound of keys visited per query: keeps the worst case (a 1-letter
+    // first word + a filter that rarely matches) bounded. Hitting it is
+    // reported (Hits.truncated), never silent: the caller asks for more letters.
+    static final int MAX_SCAN = 20_000;
+
+    public record Doc(Long id, String label, List<String> words) {
+
+        boolean matchesAll(List<String> prefixes) {
+            for (String prefix : prefixes) {
+                if (words.stream().noneMatch(word -> word.startsWith(prefix))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // truncated → the scan stopped at maxScan keys: more matches may exist
+    public record Hits(List<Doc> docs, boolean truncated) {}
+
+    private final ConcurrentSkipListMap<String, Long> keys = new ConcurrentSkipListMap<>();
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final int maxScan;
+
+    public PrefixIndex() {
+        this(MAX_SCAN);
+    }
+
+    PrefixIndex(int maxScan) {
+        this.maxScan = maxScan;
+    }
+
+    // Adds or replaces the document. Each field is split into words;
+    // fields containing '@' (emails) are also indexed as one whole word.
+    public synchronized void put(Long id, String label, String... fields) {
+        remove(id);
+
+        Set<String> words = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                continue;
+            }
+            String normalized = normalize(field);
+            words.addAll(split(normalized));
+            if (normalized.indexOf('@') >= 0) {
+                words.add(normalized.strip());
+            }
+        }
+
+        Doc doc = new Doc(id, label, List.copyOf(words));
+        docs.put(id, doc);
+        for (String word : doc.words()) {
+            keys.put(word + SEPARATOR + id, id);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        Doc old = docs.remove(id);
+        if (old != null) {
+            for (String word : old.words()) {
+                keys.remove(word + SEPARATOR + id);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        keys.clear();
+        docs.clear();
+    }
+
+    // Top `limit` docs whose words start with every word of the query,
+    // ordered by the (alphabetical) word that matched the longest query word
+    public Hits search(String query, int limit) {
+        List<String> prefixes = queryWords(query);
+        if (prefixes.isEmpty() || limit < 1) {
+            return new Hits(List.of(), false);
+        }
+
+        // The longest word narrows the range scan the most
+        String lead = prefixes.stream().max((a, b) -> Integer.compare(a.length(), b.length())).orElseThrow();
+
+        Map<Long, Doc> hits = new LinkedHashMap<>();
+        int scanned = 0;
+        boolean truncated = false;
+        for (Long id : keys.subMap(lead, true, lead + RANGE_END, false).values()) {
+            if (++scanned > maxScan) {
+                truncated = true; // keys left in the range were never looked at
+                break;
+            }
+            if (hits.containsKey(id)) {
+                continue;
+            }
+            Doc doc = docs.get(id);
+            if (doc != null && doc.matchesAll(prefixes)) {
+                hits.put(id, doc);
+                if (hits.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return new Hits(new ArrayList<>(hits.values()), truncated);
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    private static List<String> queryWords(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        String normalized = normalize(query).strip();
+        if (normalized.indexOf('@') >= 0) {
+            return List.of(normalized); // email prefix: match the whole email word
+        }
+        return split(normalized);
+    }
+
+    private static List<String> split(String normalized) {
+        return Arrays.stream(NON_WORD.split(normalized))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    // "José" → "jose": lower case, accents removed
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return ACCENTS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
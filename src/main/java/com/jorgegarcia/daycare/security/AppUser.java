@@ -4,11 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "ux_users_username", columnList = "username", unique = true)) // see db/migration V2
+@EntityListeners(AppUserCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class AppUser {
 
     @Id
@@ -21,4 +21,28 @@ public class AppUser {
 
     @Enumerated(EnumType.STRING)
     private Role role;
+
+    // Bumped by every update: tokens carry it as "uver", /auth/refresh rejects stale ones
+    @Version
+    @Setter(AccessLevel.NONE)
+    private Long version;
+
+    // Username as read from the DB (set on @PostLoad), so a rename can evict the old cache key
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private String loadedUsername;
+
+    // version and loadedUsername are owned by JPA, so the builder leaves them out
+    @Builder
+    private AppUser(Long id, String username, String password, Role role) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+    }
+
+    @PostLoad
+    void rememberLoadedUsername() {
+        this.loadedUsername = username;
+    }
 }
@@ -0,0 +1,25 @@
+package com.jorgegarcia.daycare.security;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+// JPA entity listener (a Spring bean thanks to Hibernate's SpringBeanContainer):
+// any password / role / username change drops the cached login data at once
+@Component
+public class AppUserCacheListener {
+
+    private final UserDetailsCache userDetailsCache;
+
+    public AppUserCacheListener(UserDetailsCache userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(AppUser user) {
+        userDetailsCache.evict(user.getUsername());
+        userDetailsCache.evict(user.getLoadedUsername()); // username itself may have changed
+    }
+}
@@ -10,21 +10,31 @@ import org.springframework.stereotype.Service;
 public class AppUserDetailsService implements UserDetailsService {
 
     private final AppUserRepository userRepo;
+    private final UserDetailsCache userCache;
 
-    public AppUserDetailsService(AppUserRepository userRepo) {
+    public AppUserDetailsService(AppUserRepository userRepo, UserDetailsCache userCache) {
         this.userRepo = userRepo;
+        this.userCache = userCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        AppUser user = userRepo.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        // DB only on a cache miss
+        UserDetailsCache.CachedUser user = userCache.get(username, this::loadFromDatabase);
 
+        // Fresh UserDetails each time (Spring Security may erase its password)
         return User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .roles(user.getRole().name()) // converts ADMIN → ROLE_ADMIN
+                .username(user.username())
+                .password(user.password())
+                .roles(user.role().name()) // converts ADMIN → ROLE_ADMIN
                 .build();
     }
+
+    private UserDetailsCache.CachedUser loadFromDatabase(String username) {
+        AppUser user = userRepo.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        return new UserDetailsCache.CachedUser(user.getUsername(), user.getPassword(), user.getRole());
+    }
 }
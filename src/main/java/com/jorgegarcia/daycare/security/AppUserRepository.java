@@ -3,9 +3,18 @@ package com.jorgegarcia.daycare.security;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface AppUserRepository extends JpaRepository<AppUser, Long> {
     Optional<AppUser> findByUsername(String username);
+
+    // Login / refresh: read-write transaction → always the primary, so a password
+    // or role change counts at once even with a lagging read replica
+    @Transactional
+    @Query("select u from AppUser u where u.username = :username")
+    Optional<AppUser> findCurrentByUsername(@Param("username") String username);
 }
@@ -0,0 +1,218 @@
+package com.jorgegarcia.daycare.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.jorgegarcia.daycare.dto.LoginRequestDTO;
+import com.jorgegarcia.daycare.dto.LoginResponseDTO;
+import com.jorgegarcia.daycare.dto.RefreshRequestDTO;
+import com.jorgegarcia.daycare.exception.InvalidCredentialsException;
+import com.jorgegarcia.daycare.exception.InvalidRequestException;
+import com.jorgegarcia.daycare.exception.TooManyRequestsException;
+import com.jorgegarcia.daycare.metrics.SqlStatementCounter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// ============================================================
+// 🍼 POST /auth/login without starving the rest of the API
+//
+//   request thread → throttle (per IP + per username, in memory, ~µs)
+//                    → submit to the login pool → returns right away
+//   login pool     → user SELECT + BCrypt check (tens of ms of CPU)
+//                    → access + refresh JWT
+//
+// POST /auth/refresh is cheap (no BCrypt) and stays on the request thread:
+// it is the only place, besides login, where a token leads to a user SELECT.
+//
+// The pool has a fixed number of threads and a bounded queue, so a burst
+// of logins (shift change, credential stuffing) burns at most `threads`
+// cores and never holds Tomcat / DB threads while BCrypt runs.
+// Throttled or queue full → 429 + Retry-After, before any hashing.
+// ============================================================
+@Service
+public class AuthService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
+    private static final String METRIC = "daycare.auth.logins";
+
+    private final AppUserRepository userRepo;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtService jwtService;
+    private final SqlStatementCounter sqlCounter;
+    private final LoginThrottle perUsername;
+    private final LoginThrottle perIp;
+    private final ThreadPoolExecutor pool;
+
+    // Unknown usernames are checked against this hash so they cost the same
+    // BCrypt time as a wrong password (no user enumeration by timing)
+    private final String dummyHash;
+
+    private final Counter succeeded;
+    private final Counter refreshed;
+    private final Counter badCredentials;
+    private final Counter throttled;
+    private final Counter rejected;
+
+    public AuthService(AppUserRepository userRepo, PasswordEncoder passwordEncoder,
+                       JwtService jwtService, SqlStatementCounter sqlCounter, MeterRegistry registry,
+                       @Value("${app.auth.login.threads:0}") int threads,
+                       @Value("${app.auth.login.queue-capacity:64}") int queueCapacity,
+                       @Value("${app.auth.throttle.username.capacity:5}") int userCapacity,
+                       @Value("${app.auth.throttle.username.per-minute:5}") int userPerMinute,
+                       @Value("${app.auth.throttle.ip.capacity:30}") int ipCapacity,
+                       @Value("${app.auth.throttle.ip.per-minute:60}") int ipPerMinute,
+                       @Value("${app.auth.throttle.max-keys:100000}") long maxKeys) {
+        this.userRepo = userRepo;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtService = jwtService;
+        this.sqlCounter = sqlCounter;
+        this.perUsername = new LoginThrottle(userCapacity, userPerMinute, maxKeys);
+        this.perIp = new LoginThrottle(ipCapacity, ipPerMinute, maxKeys);
+        this.dummyHash = passwordEncoder.encode("not-a-real-password");
+
+        // 0 → half the cores: logins never take the whole CPU away from the API
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), loginThreads(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("daycare.auth.login.queue", pool.getQueue(), BlockingQueue::size)
+                .description("Logins waiting for a BCrypt worker")
+                .register(registry);
+        this.succeeded = outcome(registry, "success");
+        this.refreshed = outcome(registry, "refreshed");
+        this.badCredentials = outcome(registry, "bad_credentials");
+        this.throttled = outcome(registry, "throttled");
+        this.rejected = outcome(registry, "rejected");
+        log.info("Login pool: {} threads, queue of {}", poolSize, queueCapacity);
+    }
+
+    private static Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder(METRIC).tag("outcome", outcome).register(registry);
+    }
+
+    private static ThreadFactory loginThreads() {
+        AtomicInteger seq = new AtomicInteger();
+        return task -> {
+            Thread t = new Thread(task, "login-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    // Throttling and validation happen on the caller thread (and throw right away);
+    // the future completes with the token or InvalidCredentialsException
+    public CompletableFuture<LoginResponseDTO> login(LoginRequestDTO dto, String clientIp) {
+        if (dto == null || isBlank(dto.getUsername()) || isBlank(dto.getPassword())) {
+            throw new InvalidRequestException("Username and password are required");
+        }
+        String username = dto.getUsername().trim();
+
+        throttle(perIp, clientIp == null ? "unknown" : clientIp, "Too many login attempts from this address");
+        throttle(perUsername, username.toLowerCase(), "Too many login attempts for this user");
+
+        try {
+            // the user SELECT on the login thread still counts for this request
+            return CompletableFuture.supplyAsync(
+                    sqlCounter.propagate(() -> authenticate(username, dto.getPassword())), pool);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new TooManyRequestsException("Login service is busy, retry shortly", 1);
+        }
+    }
+
+    private void throttle(LoginThrottle throttle, String key, String message) {
+        int retryAfter = throttle.tryAcquire(key);
+        if (retryAfter > 0) {
+            throttled.increment();
+            throw new TooManyRequestsException(message, retryAfter);
+        }
+    }
+
+    // Runs on the login pool
+    private LoginResponseDTO authenticate(String username, String rawPassword) {
+        AppUser user = userRepo.findCurrentByUsername(username).orElse(null);
+        if (user == null) {
+            passwordEncoder.matches(rawPassword, dummyHash);
+            badCredentials.increment();
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+
+        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+            badCredentials.increment();
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
+
+        succeeded.increment();
+        return tokensFor(user);
+    }
+
+    // ============================================================
+    // 🍼 REFRESH: new access token (+ new refresh token) from a refresh token
+    // The user is read from the DB (not the cache) so a role or password
+    // change since the token was issued (uver mismatch) or a deleted user → 401.
+    // ============================================================
+    public LoginResponseDTO refresh(RefreshRequestDTO dto) {
+        if (dto == null || isBlank(dto.getRefreshToken())) {
+            throw new InvalidRequestException("Refresh token is required");
+        }
+
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(dto.getRefreshToken());
+        } catch (JwtException | IllegalArgumentException ex) {
+            badCredentials.increment();
+            throw new InvalidCredentialsException("Invalid or expired refresh token");
+        }
+        if (!JwtService.isRefreshToken(claims)) {
+            badCredentials.increment();
+            throw new InvalidCredentialsException("Not a refresh token");
+        }
+
+        AppUser user = userRepo.findCurrentByUsername(claims.getSubject()).orElse(null);
+        Long tokenVersion = JwtService.userVersion(claims);
+        if (user == null || tokenVersion == null || !tokenVersion.equals(user.getVersion())) {
+            badCredentials.increment();
+            throw new InvalidCredentialsException("Refresh token is no longer valid, log in again");
+        }
+
+        refreshed.increment();
+        return tokensFor(user);
+    }
+
+    private LoginResponseDTO tokensFor(AppUser user) {
+        return LoginResponseDTO.builder()
+                .token(jwtService.generateAccessToken(user))
+                .tokenType("Bearer")
+                .expiresIn(TimeUnit.MILLISECONDS.toSeconds(jwtService.getAccessExpirationMs()))
+                .refreshToken(jwtService.generateRefreshToken(user.getUsername(), user.getVersion()))
+                .build();
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+}
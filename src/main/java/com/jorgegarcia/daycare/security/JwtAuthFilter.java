@@ -1,10 +1,13 @@
 package com.jorgegarcia.daycare.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -12,10 +15,22 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    // ROLE_ADMIN / ROLE_TEACHER lists built once, shared by every request
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
     private final JwtService jwtService;
     private final AppUserDetailsService userDetailsService;
 
@@ -43,34 +58,37 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         // 2. Extract token
         String token = authHeader.substring(7);
 
-        // 3. Extract username from token
-        String username = jwtService.extractUsername(token);
-
-        // 4. Authenticate only if not already authenticated
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        // 3. Verify the token ONCE (signature + expiration), cached until it expires
+        Optional<Claims> claims = jwtService.verify(token);
 
-            // 5. Validate token
-            if (jwtService.isTokenValid(token, userDetails.getUsername())) {
+        // 4. Authenticate only if valid, an access token, and not already authenticated
+        if (claims.isPresent() && !JwtService.isRefreshToken(claims.get())
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
+            UsernamePasswordAuthenticationToken authToken = authenticationFrom(claims.get());
 
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
+            authToken.setDetails(
+                    new WebAuthenticationDetailsSource().buildDetails(request)
+            );
 
-                // 6. Register authentication in the security context
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            // 5. Register authentication in the security context
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         // Continue with the next filters / controller
         filterChain.doFilter(request, response);
     }
+
+    // Role in the token → built from the claims, no user lookup at all.
+    // Subject-only tokens (issued before role claims existed) still go
+    // through the user cache / DB until they expire.
+    UsernamePasswordAuthenticationToken authenticationFrom(Claims claims) {
+        Role role = JwtService.role(claims);
+        if (role != null) {
+            return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, AUTHORITIES.get(role));
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
 }
@@ -1,59 +1,166 @@
 package com.jorgegarcia.daycare.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+// ============================================================
+// 🍼 Two kinds of token, both HS256 with the same key
+//   access  (typ=access):  sub + role + uver, short-lived → JwtAuthFilter
+//                          authenticates from the claims alone, no DB
+//   refresh (typ=refresh): sub + uver, long-lived → only accepted by
+//                          /auth/refresh, which reloads the user from the DB
+// uver = AppUser.version: a role / password change bumps it, so old refresh
+// tokens stop working and old access tokens die within their short TTL.
+// ============================================================
 @Component
 public class JwtService {
 
-    @Value("${app.jwt.secret}")
-    private String secret;
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_USER_VERSION = "uver";
+    public static final String CLAIM_TYPE = "typ";
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
 
-    @Value("${app.jwt.expiration-ms:86400000}") // default = 1 day
-    private long expirationMs;
+    private final long accessExpirationMs;
+    private final long refreshExpirationMs;
 
-    private byte[] getSigningKey() {
-        return secret.getBytes();
+    // Built once: deriving the key and the parser on every call was pure overhead
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // token → claims of tokens we already verified; each entry dies when its token expires
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtService(
+            @Value("${app.jwt.secret}") String secret,
+            @Value("${app.jwt.access-expiration-ms:900000}") long accessExpirationMs,    // default = 15 min
+            @Value("${app.jwt.refresh-expiration-ms:604800000}") long refreshExpirationMs, // default = 7 days
+            @Value("${app.jwt.verified-cache-size:10000}") long verifiedCacheSize
+    ) {
+        this.accessExpirationMs = accessExpirationMs;
+        this.refreshExpirationMs = refreshExpirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .build();
     }
 
-    public String generateToken(String username) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + expirationMs);
+    public String generateAccessToken(AppUser user) {
+        return generateAccessToken(user.getUsername(), user.getRole(), user.getVersion());
+    }
 
+    public String generateAccessToken(String username, Role role, long userVersion) {
         return Jwts.builder()
                 .setSubject(username)
-                .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(Keys.hmacShaKeyFor(getSigningKey()), SignatureAlgorithm.HS256)
+                .claim(CLAIM_TYPE, TYPE_ACCESS)
+                .claim(CLAIM_ROLE, role.name())
+                .claim(CLAIM_USER_VERSION, userVersion)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + accessExpirationMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    public String generateRefreshToken(String username, long userVersion) {
+        return Jwts.builder()
+                .setSubject(username)
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .claim(CLAIM_USER_VERSION, userVersion)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + refreshExpirationMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public long getAccessExpirationMs() {
+        return accessExpirationMs;
+    }
+
+    public static boolean isRefreshToken(Claims claims) {
+        return TYPE_REFRESH.equals(claims.get(CLAIM_TYPE));
+    }
+
+    // null when the token predates role claims (subject-only tokens)
+    public static Role role(Claims claims) {
+        Object role = claims.get(CLAIM_ROLE);
+        return role == null ? null : Role.valueOf(role.toString());
+    }
+
+    public static Long userVersion(Claims claims) {
+        Object uver = claims.get(CLAIM_USER_VERSION);
+        return uver instanceof Number n ? n.longValue() : null;
+    }
+
+    // Full check (signature + expiration), never cached. Throws JwtException if invalid.
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // What the filter uses: one HMAC check per token, then served from the cache
+    // until the token expires. Empty → bad signature, malformed or expired.
+    public Optional<Claims> verify(String token) {
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parseClaims(token);
+            verifiedTokens.put(token, claims);
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
     public String extractUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public boolean isTokenValid(String token, String username) {
-        String extracted = extractUsername(token);
-        return extracted.equals(username) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        Date expiration = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
-        return expiration.before(new Date());
+        return verify(token)
+                .map(claims -> claims.getSubject().equals(username))
+                .orElse(false);
+    }
+
+    // Cache entry lives exactly as long as the token is valid
+    private class ExpireAtTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration() == null
+                    ? accessExpirationMs
+                    : claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.jorgegarcia.daycare.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// ============================================================
+// 🍼 In-memory token buckets, one per key (username or client IP)
+// Each bucket holds up to `capacity` attempts and refills at
+// `refillPerMinute`. Idle buckets are full again, so they are simply
+// dropped after `idle` and the map stays bounded under a spray of
+// random usernames.
+// ============================================================
+public class LoginThrottle {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final Cache<String, Bucket> buckets;
+
+    public LoginThrottle(int capacity, int refillPerMinute, long maxKeys) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        // After this long untouched, the bucket would be full anyway
+        Duration idle = Duration.ofNanos((long) Math.ceil(capacity / refillPerNano));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idle)
+                .build();
+    }
+
+    // 0 → one attempt taken; otherwise the seconds until the next one is allowed
+    public int tryAcquire(String key) {
+        return buckets.get(key, k -> new Bucket(capacity, System.nanoTime())).tryTake();
+    }
+
+    public long trackedKeys() {
+        return buckets.estimatedSize();
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized int tryTake() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            double waitNanos = (1 - tokens) / refillPerNano;
+            return (int) Math.max(1, Math.ceil(waitNanos / TimeUnit.SECONDS.toNanos(1)));
+        }
+    }
+}
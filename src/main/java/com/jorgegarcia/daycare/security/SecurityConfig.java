@@ -1,5 +1,7 @@
 package com.jorgegarcia.daycare.security;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -41,7 +43,16 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
 
                 // PUBLIC ENDPOINTS
-                .requestMatchers("/auth/login").permitAll()
+                .requestMatchers("/auth/login", "/auth/refresh").permitAll()
+                .requestMatchers("/actuator/health").permitAll() // liveness / readiness probes
+
+                // ASYNC re-dispatch of a request already authorized on the way in
+                // (StreamingResponseBody / Callable); the JWT filter doesn't run twice
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
+                // METRICS: timings, cache + Hibernate stats, login throttling → ADMIN only
+                // (the Prometheus job sends an ADMIN bearer token)
+                .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
 
                 // EVERYTHING ELSE REQUIRES AUTH
                 .anyRequest().authenticated()
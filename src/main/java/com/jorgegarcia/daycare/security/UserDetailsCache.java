@@ -0,0 +1,63 @@
+package com.jorgegarcia.daycare.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jorgegarcia.daycare.cache.MonitoredCache;
+import com.jorgegarcia.daycare.dto.CacheStatsDTO;
+
+// ============================================================
+// 🍼 username → (password hash, role) for users we looked up recently
+// Saves the SELECT on users that JwtAuthFilter used to run on every request.
+// Bounded + TTL, and evicted right away when an AppUser row changes
+// (see AppUserCacheListener).
+// ============================================================
+@Component
+public class UserDetailsCache implements MonitoredCache {
+
+    // Immutable snapshot: Spring Security erases credentials on the UserDetails
+    // it hands out, so we never cache (and share) the UserDetails object itself
+    record CachedUser(String username, String password, Role role) {}
+
+    private final Cache<String, CachedUser> users;
+    private final LongAdder invalidations = new LongAdder();
+
+    public UserDetailsCache(
+            @Value("${app.security.user-cache.ttl:5m}") Duration ttl,
+            @Value("${app.security.user-cache.max-size:10000}") long maxSize
+    ) {
+        this.users = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    // Loader runs only on a miss; exceptions (user not found) are not cached
+    CachedUser get(String username, Function<String, CachedUser> loader) {
+        return users.get(username, loader);
+    }
+
+    public void evict(String username) {
+        if (username != null) {
+            users.invalidate(username);
+            invalidations.increment();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "userDetails";
+    }
+
+    @Override
+    public CacheStatsDTO getStats() {
+        return CacheStatsDTO.from(users.stats(), invalidations.sum(), users.estimatedSize());
+    }
+}
@@ -0,0 +1,261 @@
+package com.jorgegarcia.daycare.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jorgegarcia.daycare.dto.AttendanceCreateDTO;
+import com.jorgegarcia.daycare.dto.AttendanceEventDTO;
+import com.jorgegarcia.daycare.exception.InvalidRequestException;
+import com.jorgegarcia.daycare.exception.ResourceNotFoundException;
+import com.jorgegarcia.daycare.exception.TooManyRequestsException;
+import com.jorgegarcia.daycare.model.AttendanceEvent;
+import com.jorgegarcia.daycare.model.AttendanceType;
+import com.jorgegarcia.daycare.repository.AttendanceEventRepository;
+import com.jorgegarcia.daycare.repository.ChildClassroomView;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// ============================================================
+// 🍼 Kiosk check-in / check-out ingestion (7–9am: every kiosk at once)
+//
+//   POST → record() → bounded in-memory queue → 202 (no DB work at all)
+//                     queue full → 429 + Retry-After (backpressure)
+//   1 writer thread → drains up to batchSize events → ONE transaction:
+//                     1 query for the children's classrooms + batched INSERTs
+//
+// However big the spike, ingestion holds at most ONE pooled connection,
+// and one commit covers hundreds of events (group commit).
+// Events reach the timelines a few ms later (after their batch commits).
+// ============================================================
+@Timed(value = "daycare.service", description = "Service method calls")
+@Service
+public class AttendanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceService.class);
+
+    private static final String METRIC = "daycare.attendance.events";
+    private static final long POLL_MS = 200;
+    private static final long MAX_BACKOFF_MS = 5_000;
+
+    private record Pending(Long childId, AttendanceType type, LocalDateTime occurredAt) {}
+
+    private final AttendanceEventRepository attendanceRep;
+    private final DaycareChildRepository childRep;
+    private final ClassroomRepository classRep;
+    private final TransactionTemplate tx;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter written;
+    private final Counter unknownChild;
+    private final Counter retried;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AttendanceService(AttendanceEventRepository attendanceRep, DaycareChildRepository childRep,
+                             ClassroomRepository classRep, PlatformTransactionManager txManager,
+                             MeterRegistry registry,
+                             @Value("${app.attendance.queue-capacity:20000}") int queueCapacity,
+                             @Value("${app.attendance.batch-size:500}") int batchSize,
+                             @Value("${app.attendance.retry.max-attempts:6}") int maxAttempts,
+                             @Value("${app.attendance.retry.initial-backoff:200ms}") Duration initialBackoff) {
+        this.attendanceRep = attendanceRep;
+        this.childRep = childRep;
+        this.classRep = classRep;
+        this.tx = new TransactionTemplate(txManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+
+        Gauge.builder("daycare.attendance.queue", queue, BlockingQueue::size)
+                .description("Attendance events waiting for the writer")
+                .register(registry);
+        this.accepted = outcome(registry, "accepted");
+        this.rejected = outcome(registry, "rejected");
+        this.written = outcome(registry, "written");
+        this.unknownChild = outcome(registry, "unknown_child");
+        this.retried = outcome(registry, "retried");
+        this.failed = outcome(registry, "failed");
+    }
+
+    private static Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder(METRIC).tag("outcome", outcome).register(registry);
+    }
+
+    // ============================================================
+    // 🍼 WRITE SIDE: queue only, never touches the database
+    // ============================================================
+    public void record(AttendanceCreateDTO dto) {
+        if (dto.getChildId() == null) {
+            throw new InvalidRequestException("Child id is required");
+        }
+        if (dto.getType() == null) {
+            throw new InvalidRequestException("Type is required (CHECK_IN or CHECK_OUT)");
+        }
+
+        LocalDateTime occurredAt = dto.getOccurredAt() != null ? dto.getOccurredAt() : LocalDateTime.now();
+        if (!queue.offer(new Pending(dto.getChildId(), dto.getType(), occurredAt))) {
+            rejected.increment();
+            throw new TooManyRequestsException("Attendance queue is full, retry shortly", 1);
+        }
+        accepted.increment();
+    }
+
+    public int getQueued() {
+        return queue.size();
+    }
+
+    // ============================================================
+    // 🧸 WRITER THREAD
+    // ============================================================
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("attendance-writer").daemon().start(this::drainLoop);
+    }
+
+    // The writer empties the queue before the pool closes → nothing accepted is lost
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1); // whatever piled up meanwhile
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // One transaction per batch. Events of unknown children are dropped (counted).
+    // The kiosks already got their 202, so a failed batch (DB blip, lock timeout)
+    // is retried with exponential backoff; only after maxAttempts is it dropped
+    // (logged + counted). While the writer waits the queue fills up → 429s.
+    private void writeBatch(List<Pending> batch) throws InterruptedException {
+        long backoffMs = initialBackoff.toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int saved = tx.execute(status -> insert(batch));
+                written.increment(saved);
+                unknownChild.increment(batch.size() - saved);
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt >= maxAttempts) {
+                    failed.increment(batch.size());
+                    log.error("Could not write {} attendance events after {} attempts, dropping them",
+                            batch.size(), attempt, ex);
+                    return;
+                }
+                retried.increment(batch.size());
+                log.warn("Attendance batch of {} events failed (attempt {}/{}), retrying in {} ms: {}",
+                        batch.size(), attempt, maxAttempts, backoffMs, ex.toString());
+                Thread.sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    // Rows are rebuilt on every attempt (a failed flush may have left ids on the old ones)
+    private int insert(List<Pending> batch) {
+        Map<Long, Long> classroomOf = new HashMap<>();
+        for (ChildClassroomView child : childRep.findClassroomIdsByIdIn(
+                batch.stream().map(Pending::childId).distinct().toList())) {
+            classroomOf.put(child.getId(), child.getClassroomId());
+        }
+
+        List<AttendanceEvent> rows = new ArrayList<>(batch.size());
+        for (Pending event : batch) {
+            if (classroomOf.containsKey(event.childId())) {
+                rows.add(AttendanceEvent.builder()
+                        .childId(event.childId())
+                        .classroomId(classroomOf.get(event.childId()))
+                        .type(event.type())
+                        .occurredAt(event.occurredAt())
+                        .build());
+            }
+        }
+        attendanceRep.saveAll(rows); // JDBC batches of hibernate.jdbc.batch_size
+        return rows.size();
+    }
+
+    // ============================================================
+    // ✨ READ SIDE: one day, oldest first
+    // ============================================================
+    // Timeline + existence check share one read-only transaction (one connection, replica if any)
+    @Transactional(readOnly = true)
+    public List<AttendanceEventDTO> getChildTimeline(Long childId, LocalDate date) {
+        List<AttendanceEvent> events = attendanceRep.findChildTimeline(
+                childId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        // Only an empty day pays for the existence check
+        if (events.isEmpty() && !childRep.existsById(childId)) {
+            throw new ResourceNotFoundException("Child %d not found".formatted(childId));
+        }
+        return events.stream().map(this::toDTO).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttendanceEventDTO> getClassroomTimeline(Long classroomId, LocalDate date) {
+        List<AttendanceEvent> events = attendanceRep.findClassroomTimeline(
+                classroomId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        if (events.isEmpty() && !classRep.existsById(classroomId)) {
+            throw new ResourceNotFoundException("Classroom %d not found".formatted(classroomId));
+        }
+        return events.stream().map(this::toDTO).toList();
+    }
+
+    private AttendanceEventDTO toDTO(AttendanceEvent event) {
+        return AttendanceEventDTO.builder()
+                .id(event.getId())
+                .childId(event.getChildId())
+                .classroomId(event.getClassroomId())
+                .type(event.getType())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
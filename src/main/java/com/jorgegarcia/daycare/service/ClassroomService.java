@@ -1,47 +1,83 @@
 package com.jorgegarcia.daycare.service;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.jorgegarcia.daycare.cache.DtoCache;
+import com.jorgegarcia.daycare.dto.ClassroomCapacityDTO;
 import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
 import com.jorgegarcia.daycare.dto.ClassroomDTO;
 import com.jorgegarcia.daycare.dto.ClassroomPatchDTO;
 import com.jorgegarcia.daycare.dto.ClassroomUpdateDTO;
+import com.jorgegarcia.daycare.dto.CursorPageDTO;
 import com.jorgegarcia.daycare.dto.DaycareChildSummaryDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
 import com.jorgegarcia.daycare.dto.TeacherSummaryDTO;
+import com.jorgegarcia.daycare.dto.Versioned;
+import com.jorgegarcia.daycare.exception.ClassroomFullException;
 import com.jorgegarcia.daycare.exception.DuplicateEntryException;
+import com.jorgegarcia.daycare.exception.PreconditionFailedException;
 import com.jorgegarcia.daycare.exception.ResourceNotFoundException;
 import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.ClassroomRosterRow;
 import com.jorgegarcia.daycare.model.DaycareChild;
 import com.jorgegarcia.daycare.model.Teacher;
 
 import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
 import com.jorgegarcia.daycare.repository.DaycareChildRepository;
 import com.jorgegarcia.daycare.repository.TeacherRepository;
+// Every public method → daycare.service timer (tags: class, method, exception)
+@Timed(value = "daycare.service", description = "Service method calls")
 @Service
 public class ClassroomService {
 
     private final ClassroomRepository classRep;
     private final DaycareChildRepository daycareRep;
     private final TeacherRepository teacherRep;
+    private final DtoCache<ClassroomDTO> classroomCache;
+    private final DtoCache<TeacherDTO> teacherCache;
+    private final ClassroomRosterRepository rosterRep;
+    private final RosterService roster;
+    // Cache misses only: read-write → primary (see getClassromByClassroomId)
+    private final TransactionTemplate missTx;
 
     public ClassroomService(
             ClassroomRepository classRep,
             DaycareChildRepository daycareRep,
-            TeacherRepository teacherRep
+            TeacherRepository teacherRep,
+            DtoCache<ClassroomDTO> classroomCache,
+            DtoCache<TeacherDTO> teacherCache,
+            ClassroomRosterRepository rosterRep,
+            RosterService roster,
+            PlatformTransactionManager txManager
     ) {
         this.classRep = classRep;
         this.daycareRep = daycareRep;
         this.teacherRep = teacherRep;
+        this.classroomCache = classroomCache;
+        this.teacherCache = teacherCache;
+        this.rosterRep = rosterRep;
+        this.roster = roster;
+        this.missTx = new TransactionTemplate(txManager);
     }
 
     // ============================================================
     // 🍼 toDto()
     // Converts Classroom ENTITY → ClassroomDTO (the response object)
     // ============================================================
-    private ClassroomDTO toDto(Classroom classroom) {
+    ClassroomDTO toDto(Classroom classroom) { // package-private: used by DtoMappingBenchmark
 
         // 1️⃣ Convert Teacher → TeacherSummaryDTO
         TeacherSummaryDTO teacherDto = TeacherSummaryDTO.builder()
@@ -73,52 +109,73 @@ public class ClassroomService {
     }
 
     // ============================================================
-    // 🍼 GET ALL CLASSROOMS
+    // 🍼 GET ONE PAGE OF CLASSROOMS (keyset on id)
+    // cursor = null → first page
     // ============================================================
-    public List<ClassroomDTO> getAllClassrooms() {
-        return classRep.findAll()
-                .stream()
-                .map(this::toDto) // Convert each entity to DTO
-                .toList();
+    @Transactional(readOnly = true) // → replica when one is configured
+    public CursorPageDTO<ClassroomDTO> getClassroomsPage(String cursor, int size) {
+        List<Long> ids = rosterRep.findClassroomIdsAfter(KeysetPaging.decodeCursor(cursor), Limit.of(size + 1));
+
+        List<ClassroomDTO> rows = ids.isEmpty() ? List.of() : roster.toClassroomDtos(rosterRep.findByClassroomIdIn(ids));
+
+        return KeysetPaging.toPage(rows, size, ClassroomDTO::getId, Function.identity());
     }
 
     // ============================================================
     // 🍼 GET CLASSROOM BY ID
+    // Hot read → served from the DTO cache, roster range scan only on a miss
     // Throws error if not found
+    // No transaction on a hit (no connection either). A miss opens a
+    // read-write one → primary: a lagging replica would put a stale
+    // DTO in the cache for its whole TTL
     // ============================================================
     public ClassroomDTO getClassromByClassroomId(long classroomId) {
-        Classroom found = classRep.findById(classroomId)
+        return classroomCache.get(classroomId, id -> missTx.execute(status -> {
+            List<ClassroomRosterRow> rows = rosterRep.findByClassroomId(id);
+            if (rows.isEmpty()) {
+                throw new ResourceNotFoundException("Classroom %d not found".formatted(id));
+            }
+
+            return roster.toClassroomDtos(rows).get(0);
+        }));
+    }
+
+    // ============================================================
+    // 🍼 CURRENT VERSION (for ETags)
+    // One tiny SELECT, no DTO building → cheap 304s
+    // ============================================================
+    @Transactional(readOnly = true)
+    public long getClassroomVersion(long classroomId) {
+        return classRep.findVersionById(classroomId)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Classroom %d not found".formatted(classroomId))
                 );
-
-        return toDto(found);
     }
 
     // ============================================================
     // 🍼 GET CLASSROOMS BY CHILD ID
     // (Finds all classrooms where the child belongs)
     // ============================================================
+    @Transactional(readOnly = true)
     public List<ClassroomDTO> getClassroomByDaycareChildId(long daycareChildId) {
 
-        List<Classroom> classes = classRep.findByChildren_Id(daycareChildId);
+        List<ClassroomRosterRow> rows = rosterRep.findClassroomsOfChild(daycareChildId);
 
         // If no classes found → throw error
-        if (classes.isEmpty()) {
+        if (rows.isEmpty()) {
             throw new ResourceNotFoundException(
                     "No classrooms found for child %d".formatted(daycareChildId)
             );
         }
 
-        return classes.stream()
-                .map(this::toDto)
-                .toList();
+        return roster.toClassroomDtos(rows);
     }
 
     // ============================================================
     // 🍼 ADD NEW CLASSROOM (POST)
     // Requires a teacher ID (because classroom belongs to a teacher)
     // ============================================================
+    @Transactional
     public ClassroomDTO addClassroom(ClassroomCreateDTO dto) {
 
         // 1️⃣ Find teacher or error
@@ -129,11 +186,14 @@ public class ClassroomService {
         Classroom classroom = Classroom.builder()
                 .className(dto.getClassName())
                 .teacher(teacher)
+                .capacity(dto.getCapacity()) // null → no limit
                 .children(List.of()) // brand-new class → empty children list
                 .build();
 
         // 3️⃣ Save in DB
         Classroom saved = classRep.save(classroom);
+        roster.classroomAdded(saved);
+        markTeachersChanged(List.of(teacher.getId())); // teacher now lists one more class
 
         // 4️⃣ Convert to DTO
         return toDto(saved);
@@ -143,74 +203,162 @@ public class ClassroomService {
     // 🍼 UPDATE CLASSROOM (PUT)
     // Requires ALL values (full replacement)
     // ============================================================
+    @Transactional
     public ClassroomDTO updateClassroom(Long id, ClassroomUpdateDTO dto) {
+        return updateClassroom(id, dto, null).body();
+    }
+
+    // expectedVersion = version from If-Match (null → no check)
+    @Transactional
+    public Versioned<ClassroomDTO> updateClassroom(Long id, ClassroomUpdateDTO dto, Long expectedVersion) {
 
         // 1️⃣ Find the classroom
         Classroom classroom = classRep.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Classroom not found"));
+        PreconditionFailedException.requireVersion(expectedVersion, classroom.getVersion(), "Classroom " + id);
 
-        // 2️⃣ Find the teacher (new teacher or updated teacher)
-        Teacher teacher = teacherRep.findById(dto.getTeacherId())
-                .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
+        // 2️⃣ Find the teacher: the current one came with the classroom (eager join);
+        //    a new one is read because the roster copies its name
+        Long previousTeacherId = classroom.getTeacher().getId();
+        Teacher teacher = dto.getTeacherId().equals(previousTeacherId)
+                ? classroom.getTeacher()
+                : teacherRep.findById(dto.getTeacherId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
 
         // 3️⃣ Replace all fields
+        boolean renamed = !dto.getClassName().equals(classroom.getClassName());
+        Integer previousCapacity = classroom.getCapacity();
         classroom.setClassName(dto.getClassName());
         classroom.setTeacher(teacher);
 
-        // 4️⃣ Save updated entity
-        Classroom updated = classRep.save(classroom);
+        // 4️⃣ Save updated entity (dirty columns only; capacity: full replacement too,
+        //    null → no limit, its UPDATE skipped when it's the same value)
+        Classroom updated = classRep.saveAndFlush(classroom); // flushed → getVersion() is the new one
+        if (!Objects.equals(previousCapacity, dto.getCapacity())) {
+            applyCapacity(id, dto.getCapacity());
+        }
+        markChanged(updated, previousTeacherId, renamed);
 
-        // 5️⃣ Return new DTO
-        return toDto(updated);
+        // 5️⃣ Return new DTO + the version it shows
+        return new Versioned<>(toDto(updated), updated.getVersion());
     }
 
     // ============================================================
     // 🍼 PATCH CLASSROOM (PATCH)
     // Only updates fields provided (partial update)
     // ============================================================
+    @Transactional
     public ClassroomDTO patchClassroom(Long id, ClassroomPatchDTO dto) {
+        return patchClassroom(id, dto, null).body();
+    }
+
+    // expectedVersion = version from If-Match (null → no check)
+    @Transactional
+    public Versioned<ClassroomDTO> patchClassroom(Long id, ClassroomPatchDTO dto, Long expectedVersion) {
 
         // 1️⃣ Find classroom
         Classroom classroom = classRep.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Classroom not found"));
+        PreconditionFailedException.requireVersion(expectedVersion, classroom.getVersion(), "Classroom " + id);
 
         // 2️⃣ Update ONLY what was provided
+        Long previousTeacherId = classroom.getTeacher().getId();
+        boolean renamed = dto.getClassName() != null && !dto.getClassName().equals(classroom.getClassName());
         if (dto.getClassName() != null) {
             classroom.setClassName(dto.getClassName());
         }
 
-        if (dto.getTeacherId() != null) {
+        if (dto.getTeacherId() != null && !dto.getTeacherId().equals(previousTeacherId)) {
             Teacher teacher = teacherRep.findById(dto.getTeacherId())
                     .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
             classroom.setTeacher(teacher);
         }
 
         // 3️⃣ Save partial update
-        Classroom patched = classRep.save(classroom);
+        Classroom patched = classRep.saveAndFlush(classroom);
+        if (dto.getCapacity() != null && !dto.getCapacity().equals(classroom.getCapacity())) {
+            applyCapacity(id, dto.getCapacity());
+        }
+        markChanged(patched, previousTeacherId, renamed);
 
-        // 4️⃣ Convert to DTO
-        return toDto(patched);
+        // 4️⃣ Convert to DTO (+ its version)
+        return new Versioned<>(toDto(patched), patched.getVersion());
     }
     
+    // ============================================================
+    // 🍼 DELETE CLASSROOM
+    // A classroom with children CANNOT be deleted. Nothing is loaded:
+    // teacher id (for its DTO) + one conditional DELETE that also
+    // checks the classroom is empty
+    // ============================================================
+    @Transactional
     public void deleteClassroom(Long id) {
 
-    // 1️⃣ Find the classroom or fail
-    Classroom classroom = classRep.findById(id)
-        .orElseThrow(() -> new ResourceNotFoundException("Classroom not found"));
+        // 1️⃣ Exists? (+ the teacher whose DTO lists it)
+        Long teacherId = classRep.findTeacherIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Classroom not found"));
+
+        // 2️⃣ Delete only if empty: 0 rows → children are still assigned
+        if (classRep.deleteRowByIdIfEmpty(id) == 0) {
+            throw new IllegalStateException(
+                    "Cannot delete classroom — children are still assigned to it."
+            );
+        }
 
-    // 2️⃣ Safety check: A classroom with children CANNOT be deleted
-    if (classroom.getChildren() != null && !classroom.getChildren().isEmpty()) {
-        throw new IllegalStateException(
-            "Cannot delete classroom — children are still assigned to it."
-        );
+        roster.classroomDeleted(id);
+        classroomCache.evict(id);
+        markTeachersChanged(List.of(teacherId));
     }
 
-    // 3️⃣ Optional: check if the teacher is allowed to have zero classrooms
-    // (depends on business rules — usually allowed)
-    // If not allowed, add a rule here.
+    // ============================================================
+    // 🍼 CAPACITY (seats left, for the enrollment screen)
+    // ============================================================
+    @Transactional(readOnly = true)
+    public ClassroomCapacityDTO getCapacity(long classroomId) {
+        return classRep.findCapacityById(classroomId)
+                .orElseThrow(() -> new ResourceNotFoundException("Classroom %d not found".formatted(classroomId)));
+    }
 
-    // 4️⃣ Delete safely
-    classRep.delete(classroom);
-}
+    // Never below the children already enrolled: checked in the UPDATE itself,
+    // so a concurrent enrollment can't slip in between check and write
+    private void applyCapacity(Long classroomId, Integer capacity) {
+        if (capacity == null) {
+            classRep.removeCapacity(classroomId);
+        } else if (classRep.updateCapacity(classroomId, capacity) == 0) {
+            throw new ClassroomFullException(
+                    "Classroom %d has more children enrolled than %d".formatted(classroomId, capacity));
+        }
+    }
+
+    // ============================================================
+    // 🍼 After a classroom write: sync the roster, drop cached DTOs and bump
+    // the versions (= ETags) of everything whose DTO shows this classroom
+    // ============================================================
+    private void markChanged(Classroom classroom, Long previousTeacherId, boolean renamed) {
+        // Same name + same teacher → no DTO shows anything new (capacity isn't in them)
+        if (!renamed && previousTeacherId.equals(classroom.getTeacher().getId())) {
+            return;
+        }
+
+        roster.classroomChanged(classroom);
+        classroomCache.evict(classroom.getId());
+
+        // TeacherDTO lists classrooms → old and new teacher
+        markTeachersChanged(Arrays.asList(previousTeacherId, classroom.getTeacher().getId()));
+
+        // DaycareChildDTO shows the class name
+        if (renamed) {
+            daycareRep.bumpVersionsByClassroomId(classroom.getId());
+        }
+    }
+
+    private void markTeachersChanged(List<Long> teacherIds) {
+        List<Long> ids = teacherIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        teacherCache.evictAll(ids);
+        teacherRep.bumpVersions(ids);
+    }
 
 }
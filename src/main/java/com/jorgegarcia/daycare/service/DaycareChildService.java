@@ -1,29 +1,70 @@
 package com.jorgegarcia.daycare.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jorgegarcia.daycare.cache.DtoCache;
+import com.jorgegarcia.daycare.exception.ClassroomFullException;
+import com.jorgegarcia.daycare.exception.InvalidRequestException;
+import com.jorgegarcia.daycare.exception.PreconditionFailedException;
 import com.jorgegarcia.daycare.exception.ResourceNotFoundException;
 import com.jorgegarcia.daycare.model.Classroom;
 import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.repository.ChildClassroomView;
 import com.jorgegarcia.daycare.repository.ClassroomRepository;
 import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.GroupCount;
 import com.jorgegarcia.daycare.dto.*;
 
+import jakarta.persistence.EntityManager;
+
+// Every public method → daycare.service timer (tags: class, method, exception)
+@Timed(value = "daycare.service", description = "Service method calls")
 @Service
 public class DaycareChildService {
 
   private final DaycareChildRepository daycarekids;
   private final ClassroomRepository classRep;
+  private final EntityManager entityManager;
+  private final DtoCache<ClassroomDTO> classroomCache;
+  private final RosterService roster;
+  private final SearchService search;
+
+  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+  private int batchSize;
+
+  @Value("${app.bulk.max-rows:2000}")
+  private int bulkMaxRows;
 
   //Best practice to not use Autowired and insert it in the constructor
-  public DaycareChildService(DaycareChildRepository daycarekids,ClassroomRepository classRep){
+  public DaycareChildService(DaycareChildRepository daycarekids,ClassroomRepository classRep, EntityManager entityManager,
+                             DtoCache<ClassroomDTO> classroomCache, RosterService roster, SearchService search){
     this.daycarekids = daycarekids;
     this.classRep = classRep;
+    this.entityManager = entityManager;
+    this.classroomCache = classroomCache;
+    this.roster = roster;
+    this.search = search;
   }
   // ✅ Entity → DTO
-  private DaycareChildDTO toDTO(DaycareChild child) {
+  DaycareChildDTO toDTO(DaycareChild child) { // package-private: used by DtoMappingBenchmark
     return DaycareChildDTO.builder()
         .id(child.getId())
         .firstName(child.getFirstName())
@@ -37,10 +78,9 @@ public class DaycareChildService {
         )
         .build();
   }
-  // ✅ DTO → Entity
+  // ✅ DTO → Entity (new child: id comes from the sequence, never from the client)
   private DaycareChild toEntity(DaycareChildDTO dto, Classroom classroom) {
     return DaycareChild.builder()
-        .id(dto.getId())
         .firstName(dto.getFirstName())
         .lastName(dto.getLastName())
         .age(dto.getAge())
@@ -55,14 +95,30 @@ public class DaycareChildService {
         .build();
 }
 
-  public List<DaycareChildDTO> getAllChildren(){
+  // One page of children, keyset on id (cursor = null → first page)
+  @Transactional(readOnly = true) // → replica when one is configured
+  public CursorPageDTO<DaycareChildDTO> getChildrenPage(String cursor, int size){
 
-    return daycarekids.findAll()
-    .stream()
-    .map(this::toDTO)
-    .toList();
+    List<DaycareChild> rows = daycarekids.findByIdGreaterThanOrderByIdAsc(
+        KeysetPaging.decodeCursor(cursor), Limit.of(size + 1));
+
+    return KeysetPaging.toPage(rows, size, DaycareChild::getId, this::toDTO);
   }
 
+  // Streams every child to the sink one by one (nightly export).
+  // Each child is detached right after mapping, so the persistence context
+  // only ever holds the classrooms → memory stays flat however many kids we have.
+  @Transactional(readOnly = true)
+  public void exportAllChildren(Consumer<DaycareChildDTO> sink){
+    try (Stream<DaycareChild> rows = daycarekids.streamAllWithClassroom()) {
+      rows.forEach(child -> {
+        sink.accept(toDTO(child));
+        entityManager.detach(child);
+      });
+    }
+  }
+
+  @Transactional(readOnly = true)
   public DaycareChildDTO getChildById(Long id){
   
     DaycareChild child = daycarekids.findById(id)
@@ -71,6 +127,14 @@ public class DaycareChildService {
     return toDTO(child);
   }
 
+  // Current version (for ETags) without building the DTO
+  @Transactional(readOnly = true)
+  public long getChildVersion(Long id){
+    return daycarekids.findVersionById(id)
+    .orElseThrow(() -> new ResourceNotFoundException("Child %d not found".formatted(id)));
+  }
+
+  @Transactional(readOnly = true)
   public List<DaycareChildDTO> getChildrenByClassroomId(Long classroomId){
 
     return daycarekids.findByClassroom_Id(classroomId)
@@ -79,62 +143,309 @@ public class DaycareChildService {
     .toList();
   }
 
+  @Transactional
   public DaycareChildDTO addDaycareChildren(DaycareChildDTO dto){
     // 1. find the classroom by ID
     Classroom classroom = classRep.findById(dto.getClassroom().getId())
         .orElseThrow(() -> new ResourceNotFoundException("Classroom not found"));
+    reserveSeats(classroom.getId(), 1); // full → 409, nothing saved
 
     // 2. convert dto → entity
     DaycareChild entity = toEntity(dto, classroom);
 
     // 3. save entity
     DaycareChild saved = daycarekids.save(entity);
+    roster.childrenAdded(List.of(saved));
+    search.childrenSaved(List.of(saved));
+    markClassroomsChanged(List.of(classroom.getId())); // roster changed
 
     // 4. return dto
     return toDTO(saved);
   }
 
+  // Bulk enrollment (start of term):
+  //  1. every target classroom loaded in ONE query
+  //  2. bad rows reported back, good rows still saved
+  //  3. inserts flushed in JDBC batches of batchSize, then the context is cleared
+  @Transactional
+  public BulkEnrollmentResultDTO enrollChildren(List<DaycareChildCreateDTO> rows){
+    if (rows.size() > bulkMaxRows) {
+      throw new InvalidRequestException("At most %d children per bulk request".formatted(bulkMaxRows));
+    }
+
+    // null rows (a bare null in the JSON array) are reported per row by validateEnrollment
+    Set<Long> classroomIds = rows.stream()
+        .filter(Objects::nonNull)
+        .map(DaycareChildCreateDTO::getClassroomId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    Map<Long, Classroom> classrooms = classRep.findAllById(classroomIds)
+        .stream()
+        .collect(Collectors.toMap(Classroom::getId, Function.identity()));
+
+    List<BulkRowErrorDTO> failures = new ArrayList<>();
+    List<DaycareChild> toInsert = new ArrayList<>();
+
+    // Seats per classroom first, lowest id first (fixed lock order → no deadlock
+    // with another bulk request); a room without enough seats rejects ITS rows only
+    Map<Long, Long> seatsWanted = new TreeMap<>();
+    for (DaycareChildCreateDTO row : rows) {
+      if (validateEnrollment(row, classrooms) == null) {
+        seatsWanted.merge(row.getClassroomId(), 1L, Long::sum);
+      }
+    }
+    Set<Long> fullClassrooms = new HashSet<>();
+    seatsWanted.forEach((classroomId, seats) -> {
+      if (classRep.reserveSeats(classroomId, seats.intValue()) == 0) {
+        fullClassrooms.add(classroomId);
+      }
+    });
+
+    for (int i = 0; i < rows.size(); i++) {
+      DaycareChildCreateDTO row = rows.get(i);
+      String error = validateEnrollment(row, classrooms);
+      if (error == null && fullClassrooms.contains(row.getClassroomId())) {
+        error = "Classroom %d does not have %d free seats".formatted(row.getClassroomId(), seatsWanted.get(row.getClassroomId()));
+      }
+      if (error != null) {
+        failures.add(BulkRowErrorDTO.builder().index(i).message(error).build());
+        continue;
+      }
+      toInsert.add(DaycareChild.builder()
+          .firstName(row.getFirstName())
+          .lastName(row.getLastName())
+          .age(row.getAge())
+          .classroom(classrooms.get(row.getClassroomId()))
+          .build());
+    }
+
+    List<DaycareChildDTO> enrolled = new ArrayList<>(toInsert.size());
+    for (int from = 0; from < toInsert.size(); from += batchSize) {
+      List<DaycareChild> chunk = toInsert.subList(from, Math.min(from + batchSize, toInsert.size()));
+      daycarekids.saveAll(chunk);
+      roster.childrenAdded(chunk);
+      search.childrenSaved(chunk);
+      entityManager.flush();  // → one JDBC batch per table
+      chunk.forEach(child -> enrolled.add(toDTO(child)));
+      entityManager.clear();  // keep the persistence context small
+    }
+
+    markClassroomsChanged(toInsert.stream().map(child -> child.getClassroom().getId()).toList());
+
+    return BulkEnrollmentResultDTO.builder()
+        .requested(rows.size())
+        .enrolled(enrolled)
+        .failures(failures)
+        .build();
+  }
+
+  // ============================================================
+  // 🍼 BULK MOVE (a cohort goes up an age group)
+  // Instead of findById + findById + UPDATE per child:
+  //   1 SELECT target · 1 GROUP BY (how many leave each classroom)
+  //   seats released / reserved per classroom (lowest id first, see moveSeat)
+  //   1 UPDATE daycare_child · 1 UPDATE roster · 1 version bump + cache eviction
+  // ============================================================
+  @Transactional
+  public BulkMoveResultDTO moveChildren(BulkMoveDTO dto){
+    boolean byIds = dto.getChildIds() != null && !dto.getChildIds().isEmpty();
+    if (dto.getToClassroomId() == null) {
+      throw new InvalidRequestException("Target classroom id is required");
+    }
+    if (byIds == (dto.getFromClassroomId() != null)) {
+      throw new InvalidRequestException("Send either childIds or fromClassroomId");
+    }
+    if (Objects.equals(dto.getFromClassroomId(), dto.getToClassroomId())) {
+      throw new InvalidRequestException("Source and target classroom are the same");
+    }
+
+    Classroom target = classRep.findById(dto.getToClassroomId())
+        .orElseThrow(() -> new ResourceNotFoundException("Classroom %d not found".formatted(dto.getToClassroomId())));
+
+    // classroom id → children leaving it
+    Map<Long, Long> leaving = new TreeMap<>();
+    List<Long> childIds = byIds ? dto.getChildIds().stream().distinct().toList() : List.of();
+    if (byIds) {
+      if (childIds.size() > bulkMaxRows) {
+        throw new InvalidRequestException("At most %d children per bulk request".formatted(bulkMaxRows));
+      }
+      long found = 0;
+      for (GroupCount group : daycarekids.countPerClassroomByIdIn(childIds)) {
+        if (group.getGroupKey() == null) {
+          throw new InvalidRequestException("Children without a classroom can't be moved in bulk");
+        }
+        found += group.getTotal();
+        if (!target.getId().equals(group.getGroupKey())) {
+          leaving.put(group.getGroupKey(), group.getTotal());
+        }
+      }
+      if (found < childIds.size()) {
+        throw new ResourceNotFoundException("%d of the children were not found".formatted(childIds.size() - found));
+      }
+    } else {
+      if (!classRep.existsById(dto.getFromClassroomId())) {
+        throw new ResourceNotFoundException("Classroom %d not found".formatted(dto.getFromClassroomId()));
+      }
+      leaving.put(dto.getFromClassroomId(), daycarekids.countByClassroom_Id(dto.getFromClassroomId()));
+    }
+
+    long moving = leaving.values().stream().mapToLong(Long::longValue).sum();
+    if (moving == 0) {
+      return BulkMoveResultDTO.builder().toClassroomId(target.getId()).moved(0).build();
+    }
+
+    // Seats: every classroom touched, lowest id first → no deadlock with moveSeat / enrollChildren
+    // (> 0 → seats freed, < 0 → seats taken)
+    Map<Long, Long> seats = new TreeMap<>(leaving);
+    seats.put(target.getId(), -moving);
+    seats.forEach((classroomId, delta) -> {
+      if (delta < 0) {
+        reserveSeats(classroomId, (int) -delta);
+      } else {
+        classRep.releaseSeats(classroomId, delta.intValue());
+      }
+    });
+
+    int moved = byIds
+        ? daycarekids.moveToClassroom(childIds, target)
+        : daycarekids.moveAllToClassroom(dto.getFromClassroomId(), target);
+    if (moved != moving) {
+      // someone enrolled / moved one of these children between our count and the UPDATE
+      throw new OptimisticLockingFailureException("Children changed classroom during the move, try again");
+    }
+
+    if (byIds) {
+      roster.childrenMoved(childIds, target);
+    } else {
+      roster.classroomChildrenMoved(dto.getFromClassroomId(), target);
+    }
+    List<Long> touched = new ArrayList<>(seats.keySet());
+    markClassroomsChanged(touched); // cached ClassroomDTOs of source(s) + target
+
+    return BulkMoveResultDTO.builder().toClassroomId(target.getId()).moved(moved).build();
+  }
+
+  private String validateEnrollment(DaycareChildCreateDTO row, Map<Long, Classroom> classrooms) {
+    if (row == null) return "Row is empty";
+    if (row.getFirstName() == null || row.getFirstName().isBlank()) return "First name is required";
+    if (row.getLastName() == null || row.getLastName().isBlank()) return "Last name is required";
+    if (row.getClassroomId() == null) return "Classroom id is required";
+    if (!classrooms.containsKey(row.getClassroomId())) {
+      return "Classroom %d not found".formatted(row.getClassroomId());
+    }
+    return null;
+  }
+
+  // Only the classroom id is read (no child + classroom + teacher join), then one DELETE
+  @Transactional
   public void  deleteDaycareChild(Long childId){
-    DaycareChild exists = daycarekids.findById(childId)
+    ChildClassroomView exists = daycarekids.findClassroomIdsByIdIn(List.of(childId)).stream()
+    .findFirst()
     .orElseThrow(() -> new ResourceNotFoundException("Child not found"));
-    daycarekids.delete(exists);
+    daycarekids.deleteRowById(childId);
+    roster.childDeleted(childId);
+    search.childDeleted(childId);
+
+    Long classroomId = exists.getClassroomId();
+    if (classroomId != null) {
+      classRep.releaseSeats(classroomId, 1);
+      markClassroomsChanged(List.of(classroomId));
+    }
   }
 
 
+  @Transactional
   public DaycareChildDTO updateChild(Long id, DaycareChildDTO dto) {
+    return updateChild(id, dto, null).body();
+  }
+
+  // expectedVersion = version from If-Match (null → no check)
+  @Transactional
+  public Versioned<DaycareChildDTO> updateChild(Long id, DaycareChildDTO dto, Long expectedVersion) {
     DaycareChild existing = daycarekids.findById(id)
         .orElseThrow(() -> new ResourceNotFoundException("Child " + id + " not found"));
-    // find classroom
-    Classroom classroom = classRep.findById(dto.getClassroom().getId())
-        .orElseThrow(() -> new ResourceNotFoundException("Classroom not found"));
+    PreconditionFailedException.requireVersion(expectedVersion, existing.getVersion(), "Child " + id);
+    // find classroom (same one → already loaded with the child)
+    Long previousClassroomId = existing.getClassroom().getId();
+    Classroom classroom = dto.getClassroom().getId().equals(previousClassroomId)
+        ? existing.getClassroom()
+        : classRep.findById(dto.getClassroom().getId())
+            .orElseThrow(() -> new ResourceNotFoundException("Classroom not found"));
 
+    moveSeat(previousClassroomId, classroom.getId());
     existing.setFirstName(dto.getFirstName());
     existing.setLastName(dto.getLastName());
     existing.setAge(dto.getAge());
     existing.setClassroom(classroom);
 
-    DaycareChild updated = daycarekids.save(existing);
+    DaycareChild updated = daycarekids.saveAndFlush(existing); // flushed → getVersion() is the new one
+    roster.childChanged(updated, previousClassroomId);
+    search.childrenSaved(List.of(updated));
+    markClassroomsChanged(List.of(previousClassroomId, classroom.getId())); // old + new roster
 
-    return toDTO(updated);
+    return new Versioned<>(toDTO(updated), updated.getVersion());
   }
 
 
+  @Transactional
   public DaycareChildDTO patchChild(Long id, DaycareChildDTO dto) {
+    return patchChild(id, dto, null).body();
+  }
+
+  // expectedVersion = version from If-Match (null → no check)
+  @Transactional
+  public Versioned<DaycareChildDTO> patchChild(Long id, DaycareChildDTO dto, Long expectedVersion) {
     DaycareChild existing = daycarekids.findById(id)
         .orElseThrow(() -> new ResourceNotFoundException("Child " + id + " not found"));
+    PreconditionFailedException.requireVersion(expectedVersion, existing.getVersion(), "Child " + id);
 
-     if (dto.getFirstName() != null) existing.setFirstName(dto.getFirstName());
+    Long previousClassroomId = existing.getClassroom().getId();
+    if (dto.getFirstName() != null) existing.setFirstName(dto.getFirstName());
     if (dto.getLastName() != null) existing.setLastName(dto.getLastName());
     if (dto.getAge() != null) existing.setAge(dto.getAge());
 
-    if (dto.getClassroom() != null) {
+    if (dto.getClassroom() != null && !dto.getClassroom().getId().equals(previousClassroomId)) {
         Classroom classroom = classRep.findById(dto.getClassroom().getId())
             .orElseThrow(() -> new ResourceNotFoundException("Classroom not found"));
+        moveSeat(previousClassroomId, classroom.getId());
         existing.setClassroom(classroom);
     }
 
-    DaycareChild patched = daycarekids.save(existing);
+    DaycareChild patched = daycarekids.saveAndFlush(existing);
+    roster.childChanged(patched, previousClassroomId);
+    search.childrenSaved(List.of(patched));
+    markClassroomsChanged(List.of(previousClassroomId, patched.getClassroom().getId())); // old + new roster
+
+    return new Versioned<>(toDTO(patched), patched.getVersion());
+  }
+
+  // Capacity check + counter in one conditional UPDATE (see ClassroomRepository):
+  // only requests for the SAME classroom wait on each other
+  private void reserveSeats(Long classroomId, int seats){
+    if (classRep.reserveSeats(classroomId, seats) == 0) {
+      throw new ClassroomFullException("Classroom %d is full".formatted(classroomId));
+    }
+  }
+
+  // Lower classroom id first: two opposite moves (A→B, B→A) lock the two rows
+  // in the same order, so they wait instead of deadlocking
+  private void moveSeat(Long fromClassroomId, Long toClassroomId){
+    if (Objects.equals(fromClassroomId, toClassroomId)) return;
+    if (fromClassroomId < toClassroomId) {
+      classRep.releaseSeats(fromClassroomId, 1);
+      reserveSeats(toClassroomId, 1);
+    } else {
+      reserveSeats(toClassroomId, 1);
+      classRep.releaseSeats(fromClassroomId, 1);
+    }
+  }
 
-    return toDTO(patched);
+  // A ClassroomDTO lists its children → drop the cached DTO and bump the
+  // classroom version (its ETag) whenever a child joins, leaves or changes
+  private void markClassroomsChanged(List<Long> classroomIds){
+    List<Long> ids = classroomIds.stream().distinct().toList();
+    if (ids.isEmpty()) return;
+    classroomCache.evictAll(ids);
+    classRep.bumpVersions(ids);
   }
 }
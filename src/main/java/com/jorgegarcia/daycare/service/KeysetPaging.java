@@ -0,0 +1,79 @@
+package com.jorgegarcia.daycare.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jorgegarcia.daycare.dto.CursorPageDTO;
+import com.jorgegarcia.daycare.exception.InvalidRequestException;
+
+// ============================================================
+// 🍼 Keyset (cursor) pagination on the primary key
+// Each page is "WHERE id > :lastSeenId ORDER BY id LIMIT :size",
+// so page 1000 costs the same as page 1 (no OFFSET scans).
+// The cursor sent to the client is just the last id, base64 encoded.
+// ============================================================
+@Component
+public class KeysetPaging {
+
+    private static final String PREFIX = "id:";
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public KeysetPaging(
+            @Value("${app.pagination.default-size:50}") int defaultSize,
+            @Value("${app.pagination.max-size:500}") int maxSize
+    ) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    // Requested size → something between 1 and max-size
+    public int resolveSize(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        if (requested < 1) {
+            throw new InvalidRequestException("Page size must be at least 1");
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    // null / blank cursor → start from the beginning
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) { // bad base64 or bad number
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    public static String encodeCursor(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // rows were fetched with LIMIT size + 1: the extra row only tells us another page exists
+    public static <E, T> CursorPageDTO<T> toPage(List<E> rows, int size, Function<E, Long> idOf, Function<E, T> mapper) {
+        boolean hasMore = rows.size() > size;
+        List<E> pageRows = hasMore ? rows.subList(0, size) : rows;
+
+        return CursorPageDTO.<T>builder()
+                .items(pageRows.stream().map(mapper).toList())
+                .size(pageRows.size())
+                .nextCursor(hasMore ? encodeCursor(idOf.apply(pageRows.get(pageRows.size() - 1))) : null)
+                .build();
+    }
+}
@@ -0,0 +1,213 @@
+package com.jorgegarcia.daycare.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildSummaryDTO;
+import com.jorgegarcia.daycare.dto.TeacherSummaryDTO;
+import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.ClassroomRosterRow;
+import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+// ============================================================
+// 🍼 Keeps the classroom_roster read model in sync
+// Every write path (classroom / child / teacher) calls the matching
+// method below INSIDE its own transaction → roster and tables commit together.
+// rebuild() throws the whole roster away and recomputes it (drift repair).
+// ============================================================
+@Timed(value = "daycare.service", description = "Service method calls")
+@Service
+public class RosterService {
+
+    private final ClassroomRosterRepository rosterRep;
+    private final ClassroomRepository classRep;
+
+    @Value("${app.roster.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    public RosterService(ClassroomRosterRepository rosterRep, ClassroomRepository classRep) {
+        this.rosterRep = rosterRep;
+        this.classRep = classRep;
+    }
+
+    // ============================================================
+    // 🍼 READ SIDE: roster rows → ClassroomDTO (rows come grouped by classroom)
+    // ============================================================
+    public List<ClassroomDTO> toClassroomDtos(List<ClassroomRosterRow> rows) {
+        Map<Long, List<ClassroomRosterRow>> byClassroom = new LinkedHashMap<>();
+        for (ClassroomRosterRow row : rows) {
+            byClassroom.computeIfAbsent(row.getClassroomId(), id -> new ArrayList<>()).add(row);
+        }
+
+        List<ClassroomDTO> dtos = new ArrayList<>(byClassroom.size());
+        for (List<ClassroomRosterRow> classroomRows : byClassroom.values()) {
+            dtos.add(toClassroomDto(classroomRows));
+        }
+        return dtos;
+    }
+
+    private ClassroomDTO toClassroomDto(List<ClassroomRosterRow> rows) {
+        ClassroomRosterRow header = rows.get(0);
+        List<DaycareChildSummaryDTO> children = new ArrayList<>(rows.size());
+        for (ClassroomRosterRow row : rows) {
+            if (row.getChildId() == null) {
+                header = row;
+                continue;
+            }
+            children.add(DaycareChildSummaryDTO.builder()
+                    .id(row.getChildId())
+                    .fullName(row.getChildFullName())
+                    .build());
+        }
+
+        return ClassroomDTO.builder()
+                .id(header.getClassroomId())
+                .className(header.getClassName())
+                .teacher(TeacherSummaryDTO.builder()
+                        .id(header.getTeacherId())
+                        .fullName(header.getTeacherFullName())
+                        .build())
+                .children(children)
+                .build();
+    }
+
+    // ============================================================
+    // 🍼 WRITE SIDE: classrooms
+    // ============================================================
+    @Transactional
+    public void classroomAdded(Classroom classroom) {
+        rosterRep.save(headerRow(classroom));
+    }
+
+    // Rename and / or new teacher → one UPDATE over the classroom's rows
+    @Transactional
+    public void classroomChanged(Classroom classroom) {
+        Teacher teacher = classroom.getTeacher();
+        rosterRep.updateClassroom(classroom.getId(), classroom.getClassName(), teacher.getId(), fullName(teacher));
+    }
+
+    @Transactional
+    public void classroomDeleted(Long classroomId) {
+        rosterRep.deleteByClassroomId(classroomId);
+    }
+
+    // ============================================================
+    // 🍼 WRITE SIDE: children
+    // ============================================================
+    @Transactional
+    public void childrenAdded(List<DaycareChild> children) {
+        rosterRep.saveAll(children.stream().map(this::childRow).toList());
+    }
+
+    // Same classroom → only the name can change; moved → drop + re-add the row
+    @Transactional
+    public void childChanged(DaycareChild child, Long previousClassroomId) {
+        if (child.getClassroom().getId().equals(previousClassroomId)) {
+            rosterRep.updateChildName(child.getId(), fullName(child));
+        } else {
+            rosterRep.deleteByChildId(child.getId());
+            rosterRep.save(childRow(child));
+        }
+    }
+
+    // Bulk move: one UPDATE, rows keep their ids
+    @Transactional
+    public void childrenMoved(Collection<Long> childIds, Classroom target) {
+        Teacher teacher = target.getTeacher();
+        rosterRep.moveChildren(childIds, target.getId(), target.getClassName(), teacher.getId(), fullName(teacher));
+    }
+
+    @Transactional
+    public void classroomChildrenMoved(Long fromClassroomId, Classroom target) {
+        Teacher teacher = target.getTeacher();
+        rosterRep.moveAllChildren(fromClassroomId, target.getId(), target.getClassName(), teacher.getId(), fullName(teacher));
+    }
+
+    @Transactional
+    public void childDeleted(Long childId) {
+        rosterRep.deleteByChildId(childId);
+    }
+
+    // ============================================================
+    // 🍼 WRITE SIDE: teachers (the name is copied into every row)
+    // ============================================================
+    @Transactional
+    public void teacherRenamed(Teacher teacher) {
+        rosterRep.updateTeacherName(teacher.getId(), fullName(teacher));
+    }
+
+    // Cascade delete: the teacher's classrooms (and their children) go with it
+    @Transactional
+    public void teacherDeleted(Long teacherId) {
+        rosterRep.deleteByTeacherId(teacherId);
+    }
+
+    // ============================================================
+    // 🍼 REBUILD: recompute the whole roster from the real tables
+    // Returns the number of rows written
+    // ============================================================
+    @Transactional
+    public long rebuild() {
+        rosterRep.deleteAllInBatch();
+
+        List<ClassroomRosterRow> rows = new ArrayList<>();
+        for (Classroom classroom : classRep.findAllWithTeacherAndChildren()) {
+            rows.add(headerRow(classroom));
+            if (classroom.getChildren() != null) {
+                classroom.getChildren().forEach(child -> rows.add(childRow(child)));
+            }
+        }
+        rosterRep.saveAll(rows);
+        return rows.size();
+    }
+
+    // app.roster.rebuild-on-startup=true → after manual SQL fixes.
+    // An empty roster next to existing classrooms (first deploy on an old
+    // database) is always rebuilt, or every classroom would vanish from the API.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup || (rosterRep.count() == 0 && classRep.count() > 0)) {
+            rebuild();
+        }
+    }
+
+    private ClassroomRosterRow headerRow(Classroom classroom) {
+        return ClassroomRosterRow.builder()
+                .classroomId(classroom.getId())
+                .className(classroom.getClassName())
+                .teacherId(classroom.getTeacher().getId())
+                .teacherFullName(fullName(classroom.getTeacher()))
+                .build();
+    }
+
+    private ClassroomRosterRow childRow(DaycareChild child) {
+        ClassroomRosterRow row = headerRow(child.getClassroom());
+        row.setChildId(child.getId());
+        row.setChildFullName(fullName(child));
+        return row;
+    }
+
+    private static String fullName(Teacher teacher) {
+        return teacher.getFirstName() + " " + teacher.getLastName();
+    }
+
+    private static String fullName(DaycareChild child) {
+        return child.getFirstName() + " " + child.getLastName();
+    }
+}
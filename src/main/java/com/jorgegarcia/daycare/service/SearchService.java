@@ -0,0 +1,144 @@
+package com.jorgegarcia.daycare.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jorgegarcia.daycare.dto.DaycareChildSummaryDTO;
+import com.jorgegarcia.daycare.dto.SearchResultDTO;
+import com.jorgegarcia.daycare.dto.TeacherSummaryDTO;
+import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ChildNameView;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.jorgegarcia.daycare.search.PrefixIndex;
+
+import io.micrometer.core.annotation.Timed;
+
+// ============================================================
+// 🍼 Typeahead over children (first / last name) and teachers
+// (first / last name + email), answered from memory, no SQL.
+// Both indexes are built once at startup; child / teacher write
+// paths call the hooks below, applied AFTER COMMIT (a rolled back
+// write never shows up in the results).
+// ============================================================
+@Timed(value = "daycare.service", description = "Service method calls")
+@Service
+public class SearchService {
+
+    private final DaycareChildRepository childRep;
+    private final TeacherRepository teachRep;
+
+    private record ChildName(Long id, String firstName, String lastName) {}
+
+    private static final PrefixIndex.Hits NO_HITS = new PrefixIndex.Hits(List.of(), false);
+
+    private final PrefixIndex children = new PrefixIndex();
+    private final PrefixIndex teachers = new PrefixIndex();
+
+    public SearchService(DaycareChildRepository childRep, TeacherRepository teachRep) {
+        this.childRep = childRep;
+        this.teachRep = teachRep;
+    }
+
+    // ============================================================
+    // 🍼 READ SIDE
+    // ============================================================
+    // truncated = either index gave up scanning → results may be incomplete, the client should ask for more letters
+    public SearchResultDTO search(String query, int limit, boolean includeChildren, boolean includeTeachers) {
+        PrefixIndex.Hits childHits = includeChildren ? children.search(query, limit) : NO_HITS;
+        PrefixIndex.Hits teacherHits = includeTeachers ? teachers.search(query, limit) : NO_HITS;
+
+        return SearchResultDTO.builder()
+                .children(childHits.docs().stream()
+                        .map(doc -> DaycareChildSummaryDTO.builder().id(doc.id()).fullName(doc.label()).build())
+                        .toList())
+                .teachers(teacherHits.docs().stream()
+                        .map(doc -> TeacherSummaryDTO.builder().id(doc.id()).fullName(doc.label()).build())
+                        .toList())
+                .truncated(childHits.truncated() || teacherHits.truncated())
+                .build();
+    }
+
+    // ============================================================
+    // 🧸 FULL REBUILD (startup): two plain queries, names only
+    // ============================================================
+    // Both scans in one read-only transaction → one connection for the rebuild
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        children.clear();
+        for (ChildNameView child : childRep.findAllNames()) {
+            putChild(child.getId(), child.getFirstName(), child.getLastName());
+        }
+
+        teachers.clear();
+        for (Teacher teacher : teachRep.findAll()) {
+            putTeacher(teacher);
+        }
+    }
+
+    // ============================================================
+    // ✨ WRITE HOOKS (called by DaycareChildService / TeacherService)
+    // ============================================================
+    public void childrenSaved(List<DaycareChild> saved) {
+        // Copied now: the entities may be detached / changed again before the commit
+        List<ChildName> names = saved.stream()
+                .map(child -> new ChildName(child.getId(), child.getFirstName(), child.getLastName()))
+                .toList();
+        afterCommit(() -> names.forEach(name -> putChild(name.id(), name.firstName(), name.lastName())));
+    }
+
+    public void childDeleted(Long childId) {
+        afterCommit(() -> children.remove(childId));
+    }
+
+    // Teacher deleted with its classrooms → their children went too
+    public void childrenDeleted(List<Long> childIds) {
+        List<Long> ids = List.copyOf(childIds);
+        afterCommit(() -> ids.forEach(children::remove));
+    }
+
+    public void teacherSaved(Teacher teacher) {
+        Teacher snapshot = Teacher.builder()
+                .id(teacher.getId())
+                .firstName(teacher.getFirstName())
+                .lastName(teacher.getLastName())
+                .email(teacher.getEmail())
+                .build();
+        afterCommit(() -> putTeacher(snapshot));
+    }
+
+    public void teacherDeleted(Long teacherId) {
+        afterCommit(() -> teachers.remove(teacherId));
+    }
+
+    private void putChild(Long id, String firstName, String lastName) {
+        children.put(id, firstName + " " + lastName, firstName, lastName);
+    }
+
+    private void putTeacher(Teacher teacher) {
+        teachers.put(teacher.getId(), teacher.getFirstName() + " " + teacher.getLastName(),
+                teacher.getFirstName(), teacher.getLastName(), teacher.getEmail());
+    }
+
+    // Inside a transaction → wait for the commit; otherwise (already committed) apply now
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.jorgegarcia.daycare.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.annotation.Timed;
+
+import com.jorgegarcia.daycare.dto.StatsDTO;
+import com.jorgegarcia.daycare.metrics.SqlStatementCounter;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.GroupCount;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+
+import jakarta.annotation.PreDestroy;
+
+// Every public method → daycare.service timer (tags: class, method, exception)
+@Timed(value = "daycare.service", description = "Service method calls")
+@Service
+public class StatsService {
+
+    private final ClassroomRepository classRep;
+    private final TeacherRepository teacherRep;
+    private final DaycareChildRepository childRep;
+    private final SqlStatementCounter sqlCounter;
+
+    // One thread per aggregate query: the 3 GROUP BYs run side by side,
+    // each on its own connection, and never more than 3 at once
+    private final ExecutorService statsExecutor =
+            Executors.newFixedThreadPool(3, Thread.ofPlatform().name("stats-", 0).daemon().factory());
+
+    public StatsService(ClassroomRepository classRep, TeacherRepository teacherRep, DaycareChildRepository childRep,
+                        SqlStatementCounter sqlCounter) {
+        this.classRep = classRep;
+        this.teacherRep = teacherRep;
+        this.childRep = childRep;
+        this.sqlCounter = sqlCounter;
+    }
+
+    // ============================================================
+    // 🍼 DASHBOARD STATS
+    // Counted by the DB (GROUP BY), no entity is ever loaded.
+    // Totals come from the same maps → still 3 queries in total.
+    // No @Transactional on purpose: each query opens its own short
+    // read-only transaction on its stats- thread (a method-level one
+    // would hold a 4th connection idle while the others do the work).
+    // ============================================================
+    public StatsDTO getStats() {
+        CompletableFuture<Map<Long, Long>> perClassroom = async(classRep::countChildrenPerClassroom);
+        CompletableFuture<Map<Long, Long>> perTeacher = async(teacherRep::countClassroomsPerTeacher);
+        // kept as rows: the null-age bucket counts in the total but not in the histogram
+        CompletableFuture<List<GroupCount>> byAge = CompletableFuture.supplyAsync(sqlCounter.propagate(childRep::countByAge), statsExecutor);
+
+        Map<Long, Long> childrenPerClassroom = join(perClassroom);
+        Map<Long, Long> classroomsPerTeacher = join(perTeacher);
+        List<GroupCount> ageRows = join(byAge);
+        Map<Long, Long> childrenByAge = toMap(ageRows);
+
+        return StatsDTO.builder()
+                .totalChildren(ageRows.stream().mapToLong(GroupCount::getTotal).sum()) // every child, age or not
+                .totalClassrooms(childrenPerClassroom.size())
+                .totalTeachers(classroomsPerTeacher.size())
+                .childrenPerClassroom(childrenPerClassroom)
+                .classroomsPerTeacher(classroomsPerTeacher)
+                .childrenByAge(childrenByAge)
+                .build();
+    }
+
+    private CompletableFuture<Map<Long, Long>> async(Supplier<List<GroupCount>> query) {
+        // the request's SQL count goes along → http.server.sql.statements still sees the 3 queries
+        return CompletableFuture.supplyAsync(sqlCounter.propagate(() -> toMap(query.get())), statsExecutor);
+    }
+
+    private static Map<Long, Long> toMap(List<GroupCount> rows) {
+        Map<Long, Long> counts = new TreeMap<>();
+        for (GroupCount row : rows) {
+            if (row.getGroupKey() == null) {
+                continue; // children without an age
+            }
+            counts.put(row.getGroupKey(), row.getTotal());
+        }
+        return counts;
+    }
+
+    // Query errors surface as-is (not wrapped in CompletionException)
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        statsExecutor.shutdownNow();
+    }
+}
@@ -3,25 +3,56 @@ package com.jorgegarcia.daycare.service;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.jorgegarcia.daycare.cache.DtoCache;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
 import com.jorgegarcia.daycare.dto.ClassroomSummaryDTO;
+import com.jorgegarcia.daycare.dto.CursorPageDTO;
 import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
 import com.jorgegarcia.daycare.dto.TeacherDTO;
 import com.jorgegarcia.daycare.dto.TeacherPatchDTO;
 import com.jorgegarcia.daycare.dto.TeacherUpdateDTO;
+import com.jorgegarcia.daycare.dto.Versioned;
 import com.jorgegarcia.daycare.exception.DuplicateEntryException;
+import com.jorgegarcia.daycare.exception.PreconditionFailedException;
 import com.jorgegarcia.daycare.exception.ResourceNotFoundException;
 import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.DaycareChild;
 import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
 import com.jorgegarcia.daycare.repository.TeacherRepository;
 
+// Every public method → daycare.service timer (tags: class, method, exception)
+@Timed(value = "daycare.service", description = "Service method calls")
 @Service
 public class TeacherService {
   private final TeacherRepository teachRep;
+  private final ClassroomRepository classRep;
+  private final DtoCache<TeacherDTO> teacherCache;
+  private final DtoCache<ClassroomDTO> classroomCache;
+  private final RosterService roster;
+  private final SearchService search;
+  // Cache misses only: read-write → primary (see getTeacherByTeacherId)
+  private final TransactionTemplate missTx;
 
-  public TeacherService(TeacherRepository repo){
+  public TeacherService(TeacherRepository repo, ClassroomRepository classRep,
+                        DtoCache<TeacherDTO> teacherCache, DtoCache<ClassroomDTO> classroomCache,
+                        RosterService roster, SearchService search, PlatformTransactionManager txManager){
     this.teachRep = repo;
+    this.classRep = classRep;
+    this.teacherCache = teacherCache;
+    this.classroomCache = classroomCache;
+    this.roster = roster;
+    this.search = search;
+    this.missTx = new TransactionTemplate(txManager);
   }
   // 👶 Begginer version: extra clear, no streams
 public TeacherDTO toDTO_Baby(Teacher teacher) {
@@ -103,18 +134,34 @@ public Teacher toEntity(TeacherCreateDTO dto) {
         .classes(List.of())     // new teacher starts with NO classrooms
         .build();
 }
-  public List<TeacherDTO> getAllTeachers(){
-    return teachRep.findAll()
-    .stream()
-    .map(this::toDTO)
-    .toList();
+  // One page of teachers, keyset on id (cursor = null → first page)
+  @Transactional(readOnly = true) // → replica when one is configured
+  public CursorPageDTO<TeacherDTO> getTeachersPage(String cursor, int size){
+    List<Long> ids = teachRep.findIdsAfter(KeysetPaging.decodeCursor(cursor), Limit.of(size + 1));
+
+    List<Teacher> rows = ids.isEmpty() ? List.of() : teachRep.findWithClassesByIdIn(ids);
+
+    return KeysetPaging.toPage(rows, size, Teacher::getId, this::toDTO);
   }
+  // Hot read: served from the DTO cache with no transaction (no connection on a hit).
+  // Misses read the primary (read-write tx): a replica lagging behind would cache a stale DTO
   public TeacherDTO getTeacherByTeacherId(long teacherId){
-    Teacher found = teachRep.findById(teacherId)
+    return teacherCache.get(teacherId, id -> missTx.execute(status -> {
+      Teacher found = teachRep.findById(id)
+      .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
+      return toDTO(found);
+    }));
+  }
+
+  // Current version (for ETags) without building the DTO
+  @Transactional(readOnly = true)
+  public long getTeacherVersion(long teacherId){
+    return teachRep.findVersionById(teacherId)
     .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
-    return toDTO(found);
   }
 
+  // One transaction: INSERT + search hook (applied after the commit) + DTO on the same connection
+  @Transactional
   public TeacherDTO addTeacher(TeacherCreateDTO dto){
     /* First version
     var exists = teachRep.findByEmail(dto.getEmail());
@@ -124,40 +171,101 @@ public Teacher toEntity(TeacherCreateDTO dto) {
     Teacher tbCreateed = toEntity(dto);
     Teacher created = teachRep.save(tbCreateed);
     return toDTO(created);*/
-    teachRep.findByEmail(dto.getEmail())
-        .ifPresent(t -> {
-            throw new DuplicateEntryException("Email already exists");
-        });
-
-    Teacher saved = teachRep.save(toEntity(dto));
+    // One round trip: the unique index ux_teacher_email rejects the duplicate
+    // (a findByEmail() first lets two concurrent requests both pass the check)
+    Teacher saved = saveCheckingEmail(toEntity(dto));
+    search.teacherSaved(saved);
     return toDTO(saved);
   }
 
+  @Transactional
   public TeacherDTO updateTeacherById(Long id,TeacherUpdateDTO dto){
+    return updateTeacherById(id, dto, null).body();
+  }
+
+  // expectedVersion = version from If-Match (null → no check)
+  @Transactional
+  public Versioned<TeacherDTO> updateTeacherById(Long id,TeacherUpdateDTO dto, Long expectedVersion){
     Teacher tobeUpdated = teachRep.findById(id)
     .orElseThrow(() -> new ResourceNotFoundException("Teacher doesn't exist"));
+    PreconditionFailedException.requireVersion(expectedVersion, tobeUpdated.getVersion(), "Teacher " + id);
 
     tobeUpdated.setFirstName(dto.getFirstName());
     tobeUpdated.setLastName(dto.getLastName());
+    if(dto.getEmail() != null) tobeUpdated.setEmail(dto.getEmail());
 
-    Teacher updated = teachRep.save(tobeUpdated);
-    return toDTO(updated);
+    Teacher updated = saveCheckingEmail(tobeUpdated);
+    markChanged(updated);
+    return new Versioned<>(toDTO(updated), updated.getVersion()); // flushed → the new version
   }
 
+  @Transactional
   public TeacherDTO patchTeacherById(Long id, TeacherPatchDTO dto){
+    return patchTeacherById(id, dto, null).body();
+  }
+
+  // expectedVersion = version from If-Match (null → no check)
+  @Transactional
+  public Versioned<TeacherDTO> patchTeacherById(Long id, TeacherPatchDTO dto, Long expectedVersion){
     Teacher toBePatched = teachRep.findById(id)
     .orElseThrow(() -> new ResourceNotFoundException("Teacher doesn't exist"));
+    PreconditionFailedException.requireVersion(expectedVersion, toBePatched.getVersion(), "Teacher " + id);
 
     if(dto.getFirstName() != null) toBePatched.setFirstName(dto.getFirstName());
     if(dto.getLastName() != null) toBePatched.setLastName(dto.getLastName());
     if(dto.getEmail() != null) toBePatched.setEmail(dto.getEmail());
 
-    Teacher patched = teachRep.save(toBePatched);
-    return toDTO(patched);
+    Teacher patched = saveCheckingEmail(toBePatched);
+    markChanged(patched);
+    return new Versioned<>(toDTO(patched), patched.getVersion());
   }
+  // Usual case (no classrooms): one DELETE, nothing loaded.
+  // Still teaching → load it and let the cascade remove its classrooms, as before
+  @Transactional
   public void deleteTeacher(Long teacherId){
+    if (teachRep.deleteRowByIdIfNoClassrooms(teacherId) == 1) {
+      search.teacherDeleted(teacherId);
+      teacherCache.evict(teacherId);
+      return;
+    }
+
     Teacher exists = teachRep.findById(teacherId)
     .orElseThrow(() -> new ResourceNotFoundException("Teacher doesn't exist"));
+    roster.teacherDeleted(teacherId); // cascaded classrooms + children leave the roster too
+    List<Long> cascadedChildIds = exists.getClasses().stream()
+    .flatMap(classroom -> classroom.getChildren().stream())
+    .map(DaycareChild::getId)
+    .toList();
     teachRep.delete(exists);
+    search.teacherDeleted(teacherId);
+    search.childrenDeleted(cascadedChildIds);
+    evictCachedDtos(exists);
+  }
+
+  // Flushed right here so a taken email fails on ux_teacher_email now (→ 409),
+  // not at commit time as a raw DataIntegrityViolationException (→ 500)
+  private Teacher saveCheckingEmail(Teacher teacher){
+    try {
+      return teachRep.saveAndFlush(teacher);
+    } catch (DataIntegrityViolationException e) { // email is the only constraint on teacher
+      throw new DuplicateEntryException("Email already exists");
+    }
+  }
+
+  // After update/patch: every ClassroomDTO shows the teacher's name,
+  // so the roster rows are renamed and those classrooms get a new version (ETag) too
+  private void markChanged(Teacher teacher){
+    roster.teacherRenamed(teacher);
+    search.teacherSaved(teacher);
+    evictCachedDtos(teacher);
+    classRep.bumpVersionsByTeacherId(teacher.getId());
+  }
+
+  // The teacher's own DTO + every ClassroomDTO that shows this teacher's name
+  private void evictCachedDtos(Teacher teacher){
+    teacherCache.evict(teacher.getId());
+    if (teacher.getClasses() != null) {
+      classroomCache.evictAll(teacher.getClasses().stream().map(Classroom::getId).toList());
+    }
   }
 }
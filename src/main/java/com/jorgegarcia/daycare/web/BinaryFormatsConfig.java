@@ -0,0 +1,34 @@
+package com.jorgegarcia.daycare.web;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+// ============================================================
+// 🍼 Same DTOs, binary encodings (kiosks / mobile on slow Wi-Fi)
+//   Accept / Content-Type: application/cbor            → CBOR
+//                          application/x-jackson-smile → Smile
+//   anything else (or */*)                             → JSON as before
+// Both mappers come from Boot's Jackson builder → same settings
+// (dates, naming, modules) as the JSON responses.
+// These beans replace Spring MVC's default CBOR / Smile converters
+// in place, so JSON stays first in the negotiation order.
+// ============================================================
+@Configuration
+public class BinaryFormatsConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
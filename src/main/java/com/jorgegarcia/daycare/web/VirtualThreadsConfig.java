@@ -0,0 +1,96 @@
+package com.jorgegarcia.daycare.web;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jorgegarcia.daycare.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// ============================================================
+// 🍼 Virtual-thread mode (profile "vthreads" → spring.threads.virtual.enabled=true)
+// Every request + its blocking JPA calls run on a virtual thread.
+// Guard: requests in flight are capped so the DB never sees more work
+// than the Hikari pool was sized for. Connection budget of the pool:
+//   reserved    → threads that take connections outside any request permit:
+//                 the 3 stats- threads (StatsService) + the attendance writer = 4
+//   the rest    → one per request in flight (open-in-view is off, so a request
+//                 only holds one inside a service transaction; the export and
+//                 the login keep their permit until their async work ends)
+// ============================================================
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    // 0 → whatever the connection pool has left after the reserved connections
+    @Value("${app.concurrency.max-in-flight:0}")
+    private int maxInFlight;
+
+    @Value("${app.concurrency.reserved-connections:4}")
+    private int reservedConnections;
+
+    @Value("${app.concurrency.acquire-timeout:2s}")
+    private Duration acquireTimeout;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            DataSource dataSource, ObjectMapper objectMapper, MeterRegistry registry) {
+
+        int poolSize = poolSize(dataSource);
+        int available = poolSize - reservedConnections;
+        if (available < 1) {
+            throw new IllegalStateException(
+                    "The connection pool (%d) has no room for requests after the %d reserved connections: raise spring.datasource.hikari.maximum-pool-size"
+                            .formatted(poolSize, reservedConnections));
+        }
+        int limit = maxInFlight > 0 ? maxInFlight : available;
+        if (limit > available) {
+            throw new IllegalStateException(
+                    "app.concurrency.max-in-flight (%d) is larger than the connection pool (%d) minus the %d reserved connections: raise spring.datasource.hikari.maximum-pool-size or lower the limit"
+                            .formatted(limit, poolSize, reservedConnections));
+        }
+        log.info("Virtual threads on: at most {} requests in flight (connection pool = {}, {} reserved)",
+                limit, poolSize, reservedConnections);
+
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limit, acquireTimeout, objectMapper);
+        Gauge.builder("http.server.requests.in.flight", filter, ConcurrencyLimitFilter::getInFlight)
+                .description("Requests holding a concurrency permit")
+                .register(registry);
+        FunctionCounter.builder("http.server.requests.rejected", filter, ConcurrencyLimitFilter::getRejected)
+                .description("Requests answered 503 because no permit freed up in time")
+                .register(registry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(-200); // before Spring Security (-100): rejected requests do no work at all
+        return registration;
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        // With a read replica, writes (and sticky reads) all share the primary pool
+        ReadWriteRoutingDataSource routing = DataSourceUnwrapper.unwrap(dataSource, ReadWriteRoutingDataSource.class);
+        DataSource primary = routing != null ? routing.getPrimary() : dataSource;
+
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(primary, HikariDataSource.class);
+        if (hikari == null) {
+            throw new IllegalStateException("Virtual-thread mode needs a Hikari connection pool");
+        }
+        return hikari.getMaximumPoolSize();
+    }
+}
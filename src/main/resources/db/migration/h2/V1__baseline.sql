@@ -0,0 +1,37 @@
+-- 🍼 Baseline: the schema Hibernate had created (ddl-auto) before migrations;
+-- everything added to the entities since then comes in its own migration (V2+)
+
+create table teacher (
+    id bigint generated by default as identity,
+    email varchar(255),
+    first_name varchar(255),
+    last_name varchar(255),
+    primary key (id)
+);
+
+create table classroom (
+    id bigint generated by default as identity,
+    teacher_id bigint,
+    class_name varchar(255),
+    primary key (id)
+);
+
+create table daycare_child (
+    id bigint generated by default as identity,
+    classroom_id bigint,
+    age integer,
+    first_name varchar(255),
+    last_name varchar(255),
+    primary key (id)
+);
+
+create table users (
+    id bigint generated by default as identity,
+    username varchar(255),
+    password varchar(255),
+    role enum ('ADMIN','TEACHER'),
+    primary key (id)
+);
+
+alter table classroom add constraint FKem6hymrr3cxa0ldasm7jxojrc foreign key (teacher_id) references teacher (id);
+alter table daycare_child add constraint FKt7qi4cvp791jilotcis2hxwav foreign key (classroom_id) references classroom (id);
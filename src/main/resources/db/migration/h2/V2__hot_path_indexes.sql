@@ -0,0 +1,11 @@
+-- 🍼 Indexes for every lookup that runs on a hot path
+
+-- AppUserRepository.findByUsername (every authenticated request on a cache miss)
+create unique index ux_users_username on users (username);
+
+-- TeacherService.addTeacher relies on this instead of a SELECT first
+create unique index ux_teacher_email on teacher (email);
+
+-- children of a classroom / classrooms of a teacher (FK joins, stats GROUP BYs)
+create index idx_daycare_child_classroom on daycare_child (classroom_id);
+create index idx_classroom_teacher on classroom (teacher_id);
@@ -0,0 +1,16 @@
+-- 🍼 Append-only kiosk check-ins / check-outs (AttendanceService writes them in batches)
+
+create sequence attendance_event_seq start with 1 increment by 500;
+
+create table attendance_event (
+    id bigint not null,
+    child_id bigint not null,
+    classroom_id bigint,
+    type enum ('CHECK_IN','CHECK_OUT') not null,
+    occurred_at timestamp(6) not null,
+    primary key (id)
+);
+
+-- daily timelines: one range scan per child / classroom
+create index idx_attendance_child_time on attendance_event (child_id, occurred_at);
+create index idx_attendance_classroom_time on attendance_event (classroom_id, occurred_at);
@@ -0,0 +1,6 @@
+-- 🍼 Classroom capacity (null = no limit) + enrolled counter kept by conditional UPDATEs
+
+alter table classroom add column capacity integer;
+alter table classroom add column enrolled_count integer default 0 not null;
+
+update classroom c set enrolled_count = (select count(*) from daycare_child d where d.classroom_id = c.id);
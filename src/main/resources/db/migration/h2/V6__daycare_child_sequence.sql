@@ -0,0 +1,7 @@
+-- 🍼 DaycareChild ids from a sequence instead of identity (JDBC batch inserts).
+-- Seeded as in mysql/V6: max(id) + 50 → the first new id is max(id) + 1.
+
+alter table daycare_child alter column id drop identity;
+
+create sequence daycare_child_seq start with 1 increment by 50;
+alter sequence daycare_child_seq restart with (select coalesce(max(id), 0) + 50 from daycare_child);
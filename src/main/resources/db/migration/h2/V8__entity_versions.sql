@@ -0,0 +1,7 @@
+-- 🍼 @Version on Teacher / Classroom / DaycareChild (optimistic locking + ETags).
+-- Rows already there start at 0: a NULL version would make findVersionById empty (→ 404)
+-- and "version = version + 1" would keep it NULL.
+
+alter table teacher add column version bigint not null default 0;
+alter table classroom add column version bigint not null default 0;
+alter table daycare_child add column version bigint not null default 0;
@@ -0,0 +1,38 @@
+-- 🍼 Baseline: the schema Hibernate had created (ddl-auto=update) before migrations.
+-- Existing databases skip this file (spring.flyway.baseline-version=1); everything
+-- added to the entities since then comes in its own migration (V2+).
+
+create table teacher (
+    id bigint not null auto_increment,
+    email varchar(255),
+    first_name varchar(255),
+    last_name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table classroom (
+    id bigint not null auto_increment,
+    teacher_id bigint,
+    class_name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table daycare_child (
+    id bigint not null auto_increment,
+    classroom_id bigint,
+    age integer,
+    first_name varchar(255),
+    last_name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    username varchar(255),
+    password varchar(255),
+    role enum ('ADMIN','TEACHER'),
+    primary key (id)
+) engine=InnoDB;
+
+alter table classroom add constraint FKem6hymrr3cxa0ldasm7jxojrc foreign key (teacher_id) references teacher (id);
+alter table daycare_child add constraint FKt7qi4cvp791jilotcis2hxwav foreign key (classroom_id) references classroom (id);
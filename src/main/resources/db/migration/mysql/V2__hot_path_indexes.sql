@@ -0,0 +1,18 @@
+-- 🍼 Indexes for every lookup that runs on a hot path
+-- (fails on purpose if existing data already has duplicate usernames / emails:
+--  clean those up first, the app assumes they are unique)
+
+-- AppUserRepository.findByUsername (every authenticated request on a cache miss)
+create unique index ux_users_username on users (username);
+
+-- TeacherService.addTeacher relies on this instead of a SELECT first
+create unique index ux_teacher_email on teacher (email);
+
+-- children of a classroom / classrooms of a teacher (FK joins, stats GROUP BYs).
+-- MySQL had silently created an index named after each foreign key; the named
+-- index now backs the FK, so the implicit one is dropped (no duplicate index).
+create index idx_daycare_child_classroom on daycare_child (classroom_id);
+drop index FKt7qi4cvp791jilotcis2hxwav on daycare_child;
+
+create index idx_classroom_teacher on classroom (teacher_id);
+drop index FKem6hymrr3cxa0ldasm7jxojrc on classroom;
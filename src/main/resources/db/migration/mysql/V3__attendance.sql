@@ -0,0 +1,17 @@
+-- 🍼 Append-only kiosk check-ins / check-outs (AttendanceService writes them in batches)
+
+create table attendance_event_seq (next_val bigint) engine=InnoDB;
+insert into attendance_event_seq values (1);
+
+create table attendance_event (
+    id bigint not null,
+    child_id bigint not null,
+    classroom_id bigint,
+    type enum ('CHECK_IN','CHECK_OUT') not null,
+    occurred_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+-- daily timelines: one range scan per child / classroom
+create index idx_attendance_child_time on attendance_event (child_id, occurred_at);
+create index idx_attendance_classroom_time on attendance_event (classroom_id, occurred_at);
@@ -0,0 +1,7 @@
+-- 🍼 Classroom capacity (null = no limit) + enrolled counter kept by conditional UPDATEs
+
+alter table classroom
+    add column capacity integer,
+    add column enrolled_count integer not null default 0;
+
+update classroom c set enrolled_count = (select count(*) from daycare_child d where d.classroom_id = c.id);
@@ -0,0 +1,3 @@
+-- 🍼 users.version: JPA @Version on AppUser, carried in tokens as "uver"
+
+alter table users add column version bigint not null default 0;
@@ -0,0 +1,9 @@
+-- 🍼 DaycareChild ids from a hi/lo table instead of auto_increment (JDBC batch inserts).
+-- Seeded from the rows already there: Hibernate's pooled optimizer hands out
+-- (next_val - 49 .. next_val] (allocationSize 50), so the stored value is
+-- max(id) + 50 and the first new id is max(id) + 1.
+
+alter table daycare_child modify id bigint not null;
+
+create table daycare_child_seq (next_val bigint) engine=InnoDB;
+insert into daycare_child_seq select coalesce(max(id), 0) + 50 from daycare_child;
@@ -0,0 +1,20 @@
+-- 🍼 Read model behind GET /api/classrooms/{id}: one row per classroom × child.
+-- Starts empty: RosterService rebuilds it on startup when classrooms already exist.
+
+create table classroom_roster_seq (next_val bigint) engine=InnoDB;
+insert into classroom_roster_seq values (1);
+
+create table classroom_roster (
+    id bigint not null,
+    classroom_id bigint not null,
+    child_id bigint,
+    teacher_id bigint,
+    class_name varchar(255),
+    teacher_full_name varchar(255),
+    child_full_name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_roster_classroom_child on classroom_roster (classroom_id, child_id);
+create index idx_roster_child on classroom_roster (child_id);
+create index idx_roster_teacher on classroom_roster (teacher_id);
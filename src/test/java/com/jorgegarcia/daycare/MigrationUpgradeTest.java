@@ -0,0 +1,53 @@
+package com.jorgegarcia.daycare;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 🍼 A database from the ddl-auto era (V1 only, rows already there) migrated to the latest version
+class MigrationUpgradeTest {
+
+    @Test
+    void existingRowsSurviveTheUpgrade() {
+
+        // ARRANGE 🧸 V1 schema with data written before Flyway existed
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:upgrade_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        flyway(dataSource, "1").migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("insert into teacher (email, first_name, last_name) values ('old@test.com', 'Old', 'Teacher')");
+        jdbc.update("insert into classroom (teacher_id, class_name) select id, 'Old room' from teacher");
+        jdbc.update("insert into daycare_child (classroom_id, age, first_name, last_name) "
+                + "select id, 3, 'Old', 'Kid' from classroom");
+
+        // ACT 🍼
+        flyway(dataSource, "latest").migrate();
+
+        // ASSERT ✨ every existing row has a version the ETag / bump queries can use
+        for (String table : new String[]{"teacher", "classroom", "daycare_child"}) {
+            assertThat(jdbc.queryForObject("select count(*) from " + table + " where version = 0", Long.class))
+                    .as(table).isEqualTo(1);
+        }
+        assertThat(jdbc.queryForObject("select enrolled_count from classroom", Integer.class)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("select count(*) from classroom_roster", Long.class)).isZero();
+
+        // ASSERT ✨ the child id sequence continues after the existing ids
+        // (pooled optimizer: the value read is the top of a block of 50)
+        long maxId = jdbc.queryForObject("select max(id) from daycare_child", Long.class);
+        long top = jdbc.queryForObject("select next value for daycare_child_seq", Long.class);
+        assertThat(top - 49).isEqualTo(maxId + 1);
+    }
+
+    private static Flyway flyway(DataSource dataSource, String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .target(target)
+                .load();
+    }
+}
@@ -0,0 +1,157 @@
+package com.jorgegarcia.daycare.cache;
+
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.ClassroomPatchDTO;
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.dto.TeacherPatchDTO;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.jorgegarcia.daycare.security.AppUser;
+import com.jorgegarcia.daycare.security.AppUserRepository;
+import com.jorgegarcia.daycare.security.JwtService;
+import com.jorgegarcia.daycare.security.Role;
+import com.jorgegarcia.daycare.service.ClassroomService;
+import com.jorgegarcia.daycare.service.TeacherService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 🍼 Cached JSON bytes are served until a write path changes the resource
+@SpringBootTest(properties = "app.cache.json.enabled=true")
+@AutoConfigureMockMvc
+class JsonResponseCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonResponseCache jsonCache;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    private String auth;
+
+    @BeforeEach
+    void setup() {
+        AppUser admin = userRepository.save(AppUser.builder()
+                .username("json-admin").password("x").role(Role.ADMIN).build());
+        auth = "Bearer " + jwtService.generateAccessToken(admin);
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 hit on the 2nd GET, fresh body after a classroom or teacher write
+    // ============================================================
+    @Test
+    void servesCachedBytesUntilAWriteChangesTheClassroom() throws Exception {
+
+        // ARRANGE 🧸
+        TeacherDTO marina = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Marina").lastName("Princess").email("json-marina@test.com").build());
+        ClassroomDTO butterflies = classroomService.addClassroom(new ClassroomCreateDTO("Butterflies", marina.getId()));
+        String url = "/api/classrooms/" + butterflies.getId();
+
+        // ACT + ASSERT ✨
+        long hitsBefore = jsonCache.getStats().getHits();
+        String first = mockMvc.perform(get(url).header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getContentAsString();
+        String second = mockMvc.perform(get(url).header("Authorization", auth).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.className").value("Butterflies"))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(second).isEqualTo(first);
+        assertThat(jsonCache.getStats().getHits()).isEqualTo(hitsBefore + 1);
+
+        classroomService.patchClassroom(butterflies.getId(), ClassroomPatchDTO.builder().className("Busy Bees").build());
+        mockMvc.perform(get(url).header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.className").value("Busy Bees"));
+
+        teacherService.patchTeacherById(marina.getId(), TeacherPatchDTO.builder().lastName("Queen").build());
+        mockMvc.perform(get(url).header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teacher.fullName").value("Marina Queen"));
+        mockMvc.perform(get("/api/teachers/" + marina.getId()).header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastName").value("Queen"))
+                .andExpect(jsonPath("$.classrooms[0].className").value("Busy Bees"));
+    }
+
+    // ============================================================
+    // 🍼 cached JSON only when JSON is the client's first choice
+    // ============================================================
+    @Test
+    void binaryFirstAcceptSkipsTheJsonCache() throws Exception {
+
+        // ARRANGE 🧸
+        TeacherDTO marina = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Marina").lastName("Princess").email("json-accept@test.com").build());
+        ClassroomDTO butterflies = classroomService.addClassroom(new ClassroomCreateDTO("Butterflies", marina.getId()));
+        String url = "/api/classrooms/" + butterflies.getId();
+        mockMvc.perform(get(url).header("Authorization", auth)).andExpect(status().isOk()); // warms the cache
+
+        // ACT + ASSERT ✨ Accept header → the type that comes back
+        String[][] cases = {
+                {"application/cbor, */*;q=0.1", "application/cbor"},
+                {"application/x-jackson-smile, application/json;q=0.5", "application/x-jackson-smile"},
+                {"application/json;q=0.5, application/cbor", "application/cbor"},
+                {"application/cbor;q=0.2, application/json", "application/json"},
+                {"*/*", "application/json"},
+        };
+        for (String[] c : cases) {
+            mockMvc.perform(get(url).header("Authorization", auth).header(HttpHeaders.ACCEPT, c[0]))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(c[1]));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.jorgegarcia.daycare.datasource;
+
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.jorgegarcia.daycare.service.TeacherService;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 🍼 Two H2 databases stand in for primary + replica (no replication between them,
+//    so where a row shows up tells us which database answered)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rw_primary",
+        "app.datasource.replica.jdbc-url=" + ReadWriteRoutingTest.REPLICA_URL,
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.sticky-window=1m",
+        "spring.jpa.open-in-view=false"
+})
+class ReadWriteRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:rw_replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+
+    // Before the context starts: startup reads (search index) already go to the replica
+    @BeforeAll
+    static void createReplicaSchema() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+    }
+
+    @BeforeEach
+    void setup() {
+        replica = new JdbcTemplate(replicaDataSource); // its rows are written by hand below
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+        teacherRepository.deleteAllInBatch();
+        replica.update("delete from teacher");
+    }
+
+    // ============================================================
+    // 🍼 Writes → primary, read-only getters → replica,
+    //    cache-backed get-by-id → primary
+    // ============================================================
+    @Test
+    void readOnlyGettersReadTheReplica() {
+
+        // ARRANGE 🧸
+        TeacherDTO onPrimary = teacherService.addTeacher(teacher("primary"));
+        replica.update("insert into teacher (id, version, first_name, last_name, email) values (9001, 0, 'Rep', 'Lica', 'replica@test.com')");
+
+        // ACT 🍼
+        List<String> listed = emails(teacherService.getTeachersPage(null, 50).getItems());
+
+        // ASSERT ✨
+        assertThat(listed).containsExactly("replica@test.com");
+        assertThat(teacherService.getTeacherByTeacherId(onPrimary.getId()).getEmail()).isEqualTo("primary@test.com");
+    }
+
+    // ============================================================
+    // 🍼 Read-your-writes: the writer reads the primary for a while,
+    //    everybody else keeps reading the replica
+    // ============================================================
+    @Test
+    void writerReadsItsOwnWrites() {
+
+        // ARRANGE 🧸
+        signIn("alice");
+        teacherService.addTeacher(teacher("alice"));
+
+        // ACT 🍼
+        List<String> aliceSees = emails(teacherService.getTeachersPage(null, 50).getItems());
+        signIn("bob");
+        List<String> bobSees = emails(teacherService.getTeachersPage(null, 50).getItems());
+
+        // ASSERT ✨
+        assertThat(aliceSees).containsExactly("alice@test.com");
+        assertThat(bobSees).isEmpty();
+    }
+
+    // ============================================================
+    // 🍼 A cache miss reads the primary in a read-write transaction,
+    //    but writes nothing → its user is not pinned to the primary
+    // ============================================================
+    @Test
+    void primaryReadWithoutWriteIsNotSticky() {
+
+        // ARRANGE 🧸 (written anonymously → nobody is sticky)
+        TeacherDTO onPrimary = teacherService.addTeacher(teacher("carol"));
+        signIn("carol");
+
+        // ACT 🍼
+        TeacherDTO byId = teacherService.getTeacherByTeacherId(onPrimary.getId());
+        List<String> listed = emails(teacherService.getTeachersPage(null, 50).getItems());
+
+        // ASSERT ✨
+        assertThat(byId.getEmail()).isEqualTo("carol@test.com");
+        assertThat(listed).isEmpty(); // still served by the (empty) replica
+    }
+
+    private static TeacherCreateDTO teacher(String name) {
+        TeacherCreateDTO dto = new TeacherCreateDTO();
+        dto.setFirstName(name);
+        dto.setLastName("Test");
+        dto.setEmail(name + "@test.com");
+        return dto;
+    }
+
+    private static List<String> emails(List<TeacherDTO> teachers) {
+        return teachers.stream().map(TeacherDTO::getEmail).toList();
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+    }
+}
@@ -0,0 +1,180 @@
+package com.jorgegarcia.daycare.metrics;
+
+import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.jorgegarcia.daycare.security.AppUser;
+import com.jorgegarcia.daycare.security.AppUserRepository;
+import com.jorgegarcia.daycare.security.JwtService;
+import com.jorgegarcia.daycare.security.Role;
+import com.jorgegarcia.daycare.service.ClassroomService;
+import com.jorgegarcia.daycare.service.RosterService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 🍼 Each request records how many SQL statements it ran, tagged by route template
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability // tests disable metrics export by default
+class SqlStatementMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private RosterService rosterService;
+
+    private String auth;
+
+    @BeforeEach
+    void setup() {
+        AppUser admin = userRepository.save(AppUser.builder()
+                .username("metrics-admin").password("x").role(Role.ADMIN).build());
+        auth = "Bearer " + jwtService.generateAccessToken(admin);
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 GET /api/classrooms/{id} → counted under the template, not the raw path
+    // ============================================================
+    @Test
+    void recordsStatementsPerRouteTemplate() throws Exception {
+
+        // ARRANGE 🧸
+        Teacher teacher = teacherRepository.save(Teacher.builder()
+                .firstName("Marina").lastName("Princess").email("metrics@test.com").build());
+        Classroom classroom = classroomRepository.save(Classroom.builder()
+                .className("Butterflies").teacher(teacher).build());
+        childRepository.saveAll(List.of(
+                DaycareChild.builder().firstName("Ana").lastName("Lopez").age(3).classroom(classroom).build(),
+                DaycareChild.builder().firstName("Leo").lastName("Lopez").age(4).classroom(classroom).build()));
+        rosterService.rebuild(); // seeded through the repositories → roster built here
+
+        // ACT 🍼
+        mockMvc.perform(get("/api/classrooms/" + classroom.getId()).header("Authorization", auth))
+                .andExpect(status().isOk());
+
+        // ASSERT ✨
+        DistributionSummary summary = registry.find(SqlStatementMetricsFilter.METRIC)
+                .tags("method", "GET", "uri", "/api/classrooms/{id}", "status", "200")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isGreaterThan(0);
+
+        assertThat(registry.find("daycare.service")
+                .tags("class", ClassroomService.class.getName(), "method", "getClassromByClassroomId")
+                .timer()).isNotNull();
+    }
+
+    // ============================================================
+    // 🍼 SQL run on other threads for the request still counts:
+    //   /api/stats → 3 GROUP BYs on the stats- threads
+    //   /export    → the cursor query on the async (StreamingResponseBody) thread
+    // ============================================================
+    @Test
+    void countsStatementsRunOffTheRequestThread() throws Exception {
+
+        // ARRANGE 🧸
+        Teacher teacher = teacherRepository.save(Teacher.builder()
+                .firstName("Off").lastName("Thread").email("offthread@test.com").build());
+        Classroom classroom = classroomRepository.save(Classroom.builder()
+                .className("Owls").teacher(teacher).build());
+        childRepository.save(DaycareChild.builder().firstName("Eva").lastName("Ruiz").age(2).classroom(classroom).build());
+
+        // ACT 🍼
+        mockMvc.perform(get("/api/stats").header("Authorization", auth))
+                .andExpect(status().isOk());
+        MvcResult started = mockMvc.perform(get("/api/daycareKids/export").header("Authorization", auth))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk());
+
+        // ASSERT ✨ each request recorded once, with its off-thread statements in it
+        DistributionSummary stats = registry.find(SqlStatementMetricsFilter.METRIC)
+                .tags("uri", "/api/stats", "status", "200").summary();
+        assertThat(stats).isNotNull();
+        assertThat(stats.count()).isEqualTo(1);
+        assertThat(stats.totalAmount()).isGreaterThanOrEqualTo(3);
+
+        DistributionSummary export = registry.find(SqlStatementMetricsFilter.METRIC)
+                .tags("uri", "/api/daycareKids/export", "status", "200").summary();
+        assertThat(export).isNotNull();
+        assertThat(export.count()).isEqualTo(1);
+        assertThat(export.totalAmount()).isGreaterThan(0);
+    }
+
+    // ============================================================
+    // 🍼 Prometheus scrapes with an ADMIN token; anonymous / TEACHER get nothing
+    // ============================================================
+    @Test
+    void prometheusEndpointNeedsAdmin() throws Exception {
+        AppUser teacher = userRepository.save(AppUser.builder()
+                .username("metrics-teacher").password("x").role(Role.TEACHER).build());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + jwtService.generateAccessToken(teacher)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("hibernate_")));
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
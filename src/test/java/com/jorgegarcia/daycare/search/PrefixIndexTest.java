@@ -0,0 +1,57 @@
+package com.jorgegarcia.daycare.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 🍼 The scan cap never cuts results silently
+class PrefixIndexTest {
+
+    // ============================================================
+    // 🍼 Cap reached before the limit is filled → truncated, with what was found so far
+    // ============================================================
+    @Test
+    void reportsTruncationWhenTheScanCapIsReached() {
+
+        // ARRANGE 🧸 100 "Ma..." names, only the last one also has a last name "Zu..."
+        PrefixIndex index = new PrefixIndex(50);
+        for (long id = 1; id <= 100; id++) {
+            String first = "Ma%03d".formatted(id);
+            String last = id == 100 ? "Zulu" : "Lopez";
+            index.put(id, first + " " + last, first, last);
+        }
+
+        // ACT 🍼
+        PrefixIndex.Hits capped = index.search("ma zu", 10);       // scans "ma..." → the match is key 100
+        PrefixIndex.Hits narrowed = index.search("ma zul", 10);    // longer word leads → "zul..." range, 1 key
+        PrefixIndex.Hits filled = index.search("ma", 10);          // limit reached well before the cap
+
+        // ASSERT ✨
+        assertThat(capped.truncated()).isTrue();
+        assertThat(capped.docs()).isEmpty();
+        assertThat(narrowed.truncated()).isFalse();
+        assertThat(narrowed.docs()).extracting(PrefixIndex.Doc::label).containsExactly("Ma100 Zulu");
+        assertThat(filled.truncated()).isFalse();
+        assertThat(filled.docs()).hasSize(10);
+    }
+
+    // ============================================================
+    // 🍼 Range smaller than the cap → whole range seen, never truncated
+    // ============================================================
+    @Test
+    void shortRangeIsNeverTruncated() {
+
+        // ARRANGE 🧸
+        PrefixIndex index = new PrefixIndex(50);
+        for (long id = 1; id <= 50; id++) {
+            index.put(id, "Ana " + id, "Ana", "Lopez");
+        }
+
+        // ACT 🍼
+        PrefixIndex.Hits hits = index.search("ana nothing", 10);
+
+        // ASSERT ✨
+        assertThat(hits.truncated()).isFalse();
+        assertThat(hits.docs()).isEmpty();
+    }
+}
@@ -0,0 +1,236 @@
+package com.jorgegarcia.daycare.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 🍼 POST /auth/login: BCrypt on the login pool, JWT back, throttled per username
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setup() {
+        userRepository.save(AppUser.builder()
+                .username("login-admin").password(passwordEncoder.encode("secret")).role(Role.ADMIN).build());
+        userRepository.save(AppUser.builder()
+                .username("login-teacher").password(passwordEncoder.encode("secret")).role(Role.TEACHER).build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        userRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 Right password → token that opens the API
+    // ============================================================
+    @Test
+    void loginReturnsUsableToken() throws Exception {
+        // ACT
+        MvcResult started = mockMvc.perform(login("login-admin", "secret"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // ASSERT
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(body.get("tokenType").asText()).isEqualTo("Bearer");
+        assertThat(body.get("expiresIn").asLong()).isPositive();
+
+        mockMvc.perform(get("/api/classrooms")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + body.get("token").asText()))
+                .andExpect(status().isOk());
+    }
+
+    // ============================================================
+    // 🍼 Rename → the cached login under the old username is dropped
+    //    (@PostLoad remembers the name the row was read with)
+    // ============================================================
+    @Test
+    void renamedUserCannotLogInWithTheOldUsername() throws Exception {
+        // ARRANGE: log in once so the old username is cached
+        userRepository.save(AppUser.builder()
+                .username("login-before").password(passwordEncoder.encode("secret")).role(Role.TEACHER).build());
+        MvcResult first = mockMvc.perform(login("login-before", "secret"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(first)).andExpect(status().isOk());
+
+        // ACT
+        AppUser user = userRepository.findByUsername("login-before").orElseThrow();
+        assertThat(user.getLoadedUsername()).isEqualTo("login-before");
+        user.setUsername("login-after");
+        userRepository.save(user);
+
+        // ASSERT
+        MvcResult oldName = mockMvc.perform(login("login-before", "secret"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(oldName)).andExpect(status().isUnauthorized());
+        MvcResult newName = mockMvc.perform(login("login-after", "secret"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(newName)).andExpect(status().isOk());
+    }
+
+    // ============================================================
+    // 🍼 Wrong password and unknown user look the same: 401
+    // ============================================================
+    @Test
+    void badCredentialsAreUnauthorized() throws Exception {
+        for (String[] attempt : new String[][]{{"login-admin", "wrong"}, {"nobody-here", "secret"}}) {
+            // ACT
+            MvcResult started = mockMvc.perform(login(attempt[0], attempt[1]))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // ASSERT
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    // ============================================================
+    // 🍼 Burst on one username → 429 before any BCrypt work,
+    //    other accounts keep logging in
+    // ============================================================
+    @Test
+    void burstOnOneUsernameIsThrottled() throws Exception {
+        // ARRANGE: use up the bucket (5 attempts by default)
+        for (int i = 0; i < 5; i++) {
+            MvcResult started = mockMvc.perform(login("login-teacher", "wrong-" + i))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(started)).andExpect(status().isUnauthorized());
+        }
+
+        // ACT + ASSERT: even the right password is refused now
+        mockMvc.perform(login("login-teacher", "secret"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        MvcResult other = mockMvc.perform(login("login-admin", "secret"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(other)).andExpect(status().isOk());
+    }
+
+    // ============================================================
+    // 🍼 Access token works without the user row; refresh rereads it
+    //    and refuses tokens issued before a role change
+    // ============================================================
+    @Test
+    void accessTokenIsClaimsOnlyAndRefreshChecksUserVersion() throws Exception {
+        // ARRANGE
+        JsonNode tokens = loginOk("login-admin", "secret");
+        String access = tokens.get("token").asText();
+        String refresh = tokens.get("refreshToken").asText();
+
+        // ACT + ASSERT: refresh gives a new pair; tokens are not interchangeable
+        MvcResult refreshed = mockMvc.perform(refresh(refresh))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(objectMapper.readTree(refreshed.getResponse().getContentAsString()).get("token").asText())
+                .isNotBlank();
+        mockMvc.perform(refresh(access)).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/classrooms").header(HttpHeaders.AUTHORIZATION, "Bearer " + refresh))
+                .andExpect(status().isForbidden());
+
+        // ACT: role change bumps the user version
+        AppUser admin = userRepository.findByUsername("login-admin").orElseThrow();
+        admin.setRole(Role.TEACHER);
+        userRepository.save(admin);
+
+        // ASSERT: old refresh token is dead
+        mockMvc.perform(refresh(refresh)).andExpect(status().isUnauthorized());
+
+        // ACT: user row gone
+        userRepository.deleteAllInBatch();
+
+        // ASSERT: the access token still authenticates (no user lookup per request)
+        mockMvc.perform(get("/api/classrooms").header(HttpHeaders.AUTHORIZATION, "Bearer " + access))
+                .andExpect(status().isOk());
+    }
+
+    // ============================================================
+    // 🍼 TEACHER on an ADMIN-only endpoint → 403 (not 500), ADMIN gets in
+    // ============================================================
+    @Test
+    void teacherIsForbiddenOnAdminEndpoints() throws Exception {
+        // ARRANGE
+        String teacher = "Bearer " + jwtService.generateAccessToken(userRepository.findByUsername("login-teacher").orElseThrow());
+        String admin = "Bearer " + jwtService.generateAccessToken(userRepository.findByUsername("login-admin").orElseThrow());
+
+        // ACT + ASSERT
+        mockMvc.perform(get("/api/stats").header(HttpHeaders.AUTHORIZATION, teacher))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.error").value("Forbidden"));
+        mockMvc.perform(get("/api/admin/cache-stats").header(HttpHeaders.AUTHORIZATION, teacher))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/admin/roster/rebuild").header(HttpHeaders.AUTHORIZATION, teacher))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/stats").header(HttpHeaders.AUTHORIZATION, admin))
+                .andExpect(status().isOk());
+    }
+
+    private JsonNode loginOk(String username, String password) throws Exception {
+        MvcResult started = mockMvc.perform(login(username, password))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private RequestBuilder refresh(String refreshToken) {
+        return post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"%s\"}".formatted(refreshToken));
+    }
+
+    private RequestBuilder login(String username, String password) {
+        return post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"%s\",\"password\":\"%s\"}".formatted(username, password));
+    }
+}
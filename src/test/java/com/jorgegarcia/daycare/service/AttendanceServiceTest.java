@@ -0,0 +1,219 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.AttendanceCreateDTO;
+import com.jorgegarcia.daycare.dto.AttendanceEventDTO;
+import com.jorgegarcia.daycare.exception.TooManyRequestsException;
+import com.jorgegarcia.daycare.model.AttendanceType;
+import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.AttendanceEventRepository;
+import com.jorgegarcia.daycare.repository.ChildClassroomView;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 🍼 Kiosk events are queued, written in batches and show up in the timelines
+@SpringBootTest
+class AttendanceServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 9, 2);
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceEventRepository attendanceRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @AfterEach
+    void cleanup() {
+        attendanceRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 8 kiosks × 250 events at once → all written, timelines in order
+    // ============================================================
+    @Test
+    void morningSpikeIsWrittenAndServedAsTimelines() throws Exception {
+
+        // ARRANGE 🧸
+        Teacher teacher = teacherRepository.save(Teacher.builder()
+                .firstName("Marina").lastName("Princess").email("attendance@test.com").build());
+        Classroom classroom = classroomRepository.save(Classroom.builder()
+                .className("Butterflies").teacher(teacher).build());
+        DaycareChild ana = childRepository.save(DaycareChild.builder()
+                .firstName("Ana").lastName("Lopez").age(3).classroom(classroom).build());
+        DaycareChild leo = childRepository.save(DaycareChild.builder()
+                .firstName("Leo").lastName("Lopez").age(4).classroom(classroom).build());
+
+        // ACT 🍼
+        ExecutorService kiosks = Executors.newFixedThreadPool(8);
+        for (int kiosk = 0; kiosk < 8; kiosk++) {
+            kiosks.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    attendanceService.record(event(i % 2 == 0 ? ana.getId() : leo.getId(),
+                            AttendanceType.CHECK_IN, DAY.atTime(7, 0).plusSeconds(i)));
+                }
+            });
+        }
+        kiosks.shutdown();
+        assertThat(kiosks.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        attendanceService.record(event(ana.getId(), AttendanceType.CHECK_OUT, DAY.atTime(16, 30)));
+        attendanceService.record(event(-1L, AttendanceType.CHECK_IN, DAY.atTime(8, 0))); // unknown child → dropped
+        awaitWritten(2001);
+
+        // ASSERT ✨
+        List<AttendanceEventDTO> anaDay = attendanceService.getChildTimeline(ana.getId(), DAY);
+        assertThat(anaDay).hasSize(1001);
+        assertThat(anaDay).extracting(AttendanceEventDTO::getOccurredAt).isSorted();
+        assertThat(anaDay.get(anaDay.size() - 1).getType()).isEqualTo(AttendanceType.CHECK_OUT);
+        assertThat(anaDay).allSatisfy(e -> assertThat(e.getClassroomId()).isEqualTo(classroom.getId()));
+
+        assertThat(attendanceService.getClassroomTimeline(classroom.getId(), DAY)).hasSize(2001);
+        assertThat(attendanceService.getClassroomTimeline(classroom.getId(), DAY.plusDays(1))).isEmpty();
+    }
+
+    // ============================================================
+    // 🍼 queue full → 429 instead of waiting (writer not started here)
+    // ============================================================
+    @Test
+    void fullQueueIsRejected() {
+
+        // ARRANGE 🧸
+        AttendanceService tiny = new AttendanceService(null, null, null, null, new SimpleMeterRegistry(), 2, 500, 6, Duration.ofMillis(10));
+        tiny.record(event(1L, AttendanceType.CHECK_IN, null));
+        tiny.record(event(2L, AttendanceType.CHECK_IN, null));
+
+        // ACT + ASSERT ✨
+        assertThatThrownBy(() -> tiny.record(event(3L, AttendanceType.CHECK_IN, null)))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(tiny.getQueued()).isEqualTo(2);
+    }
+
+    // ============================================================
+    // 🍼 DB blip: the batch fails twice, is retried and written once
+    // ============================================================
+    @Test
+    void failedBatchIsRetriedNotDropped() throws Exception {
+
+        // ARRANGE 🧸 (mocks: the insert throws twice, then works)
+        AttendanceEventRepository events = mock(AttendanceEventRepository.class);
+        DaycareChildRepository children = mock(DaycareChildRepository.class);
+        when(children.findClassroomIdsByIdIn(any())).thenReturn(List.of(childIn(7L, 70L)));
+        when(events.saveAll(any()))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"))
+                .thenAnswer(call -> call.getArgument(0));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AttendanceService flaky = new AttendanceService(events, children, null, mock(PlatformTransactionManager.class),
+                registry, 100, 500, 6, Duration.ofMillis(10));
+
+        // ACT 🍼 both queued before the writer starts → one batch of 2
+        flaky.record(event(7L, AttendanceType.CHECK_IN, DAY.atTime(8, 0)));
+        flaky.record(event(7L, AttendanceType.CHECK_OUT, DAY.atTime(16, 0)));
+        flaky.start();
+        flaky.stop(); // drains the queue before returning
+
+        // ASSERT ✨
+        verify(events, times(3)).saveAll(any());
+        assertThat(outcome(registry, "written")).isEqualTo(2);
+        assertThat(outcome(registry, "retried")).isEqualTo(4); // 2 events × 2 failed attempts
+        assertThat(outcome(registry, "failed")).isZero();
+    }
+
+    // ============================================================
+    // 🍼 DB gone for good: dropped only after the last attempt (counted)
+    // ============================================================
+    @Test
+    void batchIsDroppedAfterMaxAttempts() throws Exception {
+
+        // ARRANGE 🧸
+        AttendanceEventRepository events = mock(AttendanceEventRepository.class);
+        DaycareChildRepository children = mock(DaycareChildRepository.class);
+        when(children.findClassroomIdsByIdIn(any())).thenThrow(new QueryTimeoutException("database down"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AttendanceService down = new AttendanceService(events, children, null, mock(PlatformTransactionManager.class),
+                registry, 100, 500, 3, Duration.ofMillis(10));
+
+        // ACT 🍼
+        down.start();
+        down.record(event(7L, AttendanceType.CHECK_IN, DAY.atTime(8, 0)));
+        down.stop();
+
+        // ASSERT ✨
+        verify(children, times(3)).findClassroomIdsByIdIn(any());
+        verify(events, never()).saveAll(any());
+        assertThat(outcome(registry, "failed")).isEqualTo(1);
+        assertThat(outcome(registry, "written")).isZero();
+    }
+
+    private static double outcome(SimpleMeterRegistry registry, String outcome) {
+        return registry.get("daycare.attendance.events").tag("outcome", outcome).counter().count();
+    }
+
+    private static ChildClassroomView childIn(Long childId, Long classroomId) {
+        return new ChildClassroomView() {
+            @Override
+            public Long getId() {
+                return childId;
+            }
+
+            @Override
+            public Long getClassroomId() {
+                return classroomId;
+            }
+        };
+    }
+
+    private void awaitWritten(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (attendanceRepository.count() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Thread.sleep(300); // the unknown-child batch may still be in flight
+        assertThat(attendanceRepository.count()).isEqualTo(expected);
+    }
+
+    private AttendanceCreateDTO event(Long childId, AttendanceType type, LocalDateTime at) {
+        return AttendanceCreateDTO.builder().childId(childId).type(type).occurredAt(at).build();
+    }
+}
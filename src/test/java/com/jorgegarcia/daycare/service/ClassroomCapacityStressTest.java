@@ -0,0 +1,179 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.ClassroomPatchDTO;
+import com.jorgegarcia.daycare.dto.ClassroomSummaryDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.exception.ClassroomFullException;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 🍼 Many admins enrolling at the same moment: never over capacity, never stuck
+@SpringBootTest
+class ClassroomCapacityStressTest {
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private DaycareChildService childService;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    private TeacherDTO teacher;
+
+    @BeforeEach
+    void setup() {
+        teacher = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Marina").lastName("Princess").email("capacity@test.com").build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 32 enrollments race for 10 seats → exactly 10 win
+    // ============================================================
+    @Test
+    void oneRoomNeverGoesOverCapacity() throws Exception {
+
+        // ARRANGE 🧸
+        ClassroomDTO room = classroomService.addClassroom(new ClassroomCreateDTO("Butterflies", teacher.getId(), 10));
+        AtomicInteger full = new AtomicInteger();
+
+        // ACT 🍼
+        List<Callable<Void>> admins = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            int n = i;
+            admins.add(() -> {
+                try {
+                    childService.addDaycareChildren(child("Kid" + n, room.getId()));
+                } catch (ClassroomFullException ex) {
+                    full.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        runAll(admins, 16);
+
+        // ASSERT ✨
+        assertThat(full.get()).isEqualTo(22);
+        assertThat(childRepository.findByClassroom_Id(room.getId())).hasSize(10);
+        assertThat(classroomService.getCapacity(room.getId()).getEnrolled()).isEqualTo(10);
+        assertThat(classroomService.getCapacity(room.getId()).getAvailable()).isZero();
+    }
+
+    // ============================================================
+    // 🍼 8 rooms filled in parallel + children swapped A⇄B in both
+    // directions at once → every count exact, no deadlock
+    // ============================================================
+    @Test
+    void differentRoomsEnrollInParallelAndCountsStayExact() throws Exception {
+
+        // ARRANGE 🧸
+        List<ClassroomDTO> rooms = new ArrayList<>();
+        for (int r = 0; r < 8; r++) {
+            rooms.add(classroomService.addClassroom(new ClassroomCreateDTO("Room " + r, teacher.getId(), 40)));
+        }
+
+        // ACT 🍼 (1) 8 admins × 40 children, one room each
+        List<Callable<Void>> admins = new ArrayList<>();
+        for (ClassroomDTO room : rooms) {
+            admins.add(() -> {
+                for (int i = 0; i < 40; i++) {
+                    childService.addDaycareChildren(child("Kid" + i, room.getId()));
+                }
+                return null;
+            });
+        }
+        long started = System.nanoTime();
+        runAll(admins, 8);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        // ACT 🍼 (2) room 0 → room 1 and room 1 → room 0 at the same time (10 each way)
+        Long a = rooms.get(0).getId();
+        Long b = rooms.get(1).getId();
+        List<Long> fromA = childRepository.findByClassroom_Id(a).stream().limit(10).map(c -> c.getId()).toList();
+        List<Long> fromB = childRepository.findByClassroom_Id(b).stream().limit(10).map(c -> c.getId()).toList();
+        classroomService.patchClassroom(a, ClassroomPatchDTO.builder().capacity(50).build());
+        classroomService.patchClassroom(b, ClassroomPatchDTO.builder().capacity(50).build());
+
+        List<Callable<Void>> moves = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Long fromAId = fromA.get(i);
+            Long fromBId = fromB.get(i);
+            moves.add(() -> { childService.patchChild(fromAId, child(null, b)); return null; });
+            moves.add(() -> { childService.patchChild(fromBId, child(null, a)); return null; });
+        }
+        runAll(moves, 8);
+
+        // ASSERT ✨
+        for (ClassroomDTO room : rooms) {
+            int actual = childRepository.findByClassroom_Id(room.getId()).size();
+            assertThat(actual).isEqualTo(40);
+            assertThat(classroomService.getCapacity(room.getId()).getEnrolled()).isEqualTo(actual);
+        }
+        System.out.printf("🧸 320 enrollments into 8 rooms by 8 threads: %d ms (%.0f enrollments/s)%n",
+                elapsedMs, 320 * 1000.0 / Math.max(1, elapsedMs));
+    }
+
+    // Runs every task on `threads` threads and rethrows the first failure
+    private void runAll(List<Callable<Void>> tasks, int threads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Void> result : pool.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private DaycareChildDTO child(String firstName, Long classroomId) {
+        return DaycareChildDTO.builder()
+                .firstName(firstName)
+                .lastName(firstName == null ? null : "Lopez")
+                .age(firstName == null ? null : 3)
+                .classroom(ClassroomSummaryDTO.builder().id(classroomId).build())
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 🍼 Counts the real SQL statements sent to H2, so an N+1 comes back as a red test
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ClassroomServiceQueryCountTest {
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private RosterService rosterService;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 getClassroomsPage() — same number of queries for 2 or 20 classrooms
+    // ============================================================
+    @Test
+    void getClassroomsPageRunsConstantNumberOfQueries() {
+
+        // ARRANGE 🧸
+        seed(2, 3);
+        long smallCount = countStatements(() -> classroomService.getClassroomsPage(null, 50));
+
+        seed(18, 5);
+
+        // ACT 🍼
+        AtomicReference<List<ClassroomDTO>> result = new AtomicReference<>();
+        long bigCount = countStatements(() -> result.set(classroomService.getClassroomsPage(null, 50).getItems()));
+
+        // ASSERT ✨
+        assertThat(result.get()).hasSize(20);
+        assertThat(result.get()).allSatisfy(dto -> assertThat(dto.getTeacher()).isNotNull());
+        assertThat(bigCount).isEqualTo(smallCount).isEqualTo(2); // page ids + their roster rows
+    }
+
+    // ============================================================
+    // 🍼 getClassroomByDaycareChildId() — one query no matter the roster size
+    // ============================================================
+    @Test
+    void getClassroomByDaycareChildIdRunsOneQuery() {
+
+        // ARRANGE 🧸
+        List<Classroom> classrooms = seed(3, 10);
+        Long childId = childRepository.findByClassroom_Id(classrooms.get(1).getId()).get(0).getId();
+
+        // ACT 🍼
+        AtomicReference<List<ClassroomDTO>> result = new AtomicReference<>();
+        long count = countStatements(() -> result.set(classroomService.getClassroomByDaycareChildId(childId)));
+
+        // ASSERT ✨
+        assertThat(result.get()).hasSize(1);
+        assertThat(result.get().get(0).getChildren()).hasSize(10);
+        assertThat(count).isEqualTo(1);
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Classroom> seed(int classrooms, int childrenPerClassroom) {
+        List<Classroom> saved = new ArrayList<>();
+        for (int i = 0; i < classrooms; i++) {
+            Teacher teacher = teacherRepository.save(Teacher.builder()
+                    .firstName("Teacher" + i)
+                    .lastName("Test")
+                    .email("teacher" + System.nanoTime() + "@test.com")
+                    .build());
+
+            Classroom classroom = classroomRepository.save(Classroom.builder()
+                    .className("Room " + i)
+                    .teacher(teacher)
+                    .build());
+
+            List<DaycareChild> children = new ArrayList<>();
+            for (int j = 0; j < childrenPerClassroom; j++) {
+                children.add(DaycareChild.builder()
+                        .firstName("Kid" + j)
+                        .lastName("Room" + i)
+                        .age(3)
+                        .classroom(classroom)
+                        .build());
+            }
+            childRepository.saveAll(children);
+            saved.add(classroom);
+        }
+        rosterService.rebuild(); // seeded through the repositories → roster built here
+        return saved;
+    }
+}
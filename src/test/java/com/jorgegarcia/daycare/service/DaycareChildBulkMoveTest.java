@@ -0,0 +1,163 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.BulkMoveDTO;
+import com.jorgegarcia.daycare.dto.BulkMoveResultDTO;
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildCreateDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.exception.ClassroomFullException;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 🍼 A cohort moves in a fixed number of statements, roster + counters stay right
+@SpringBootTest
+class DaycareChildBulkMoveTest {
+
+    @Autowired
+    private DaycareChildService childService;
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private RosterService rosterService;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private TeacherDTO teacher;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        teacher = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Marina").lastName("Princess").email("move@test.com").build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 whole classroom / list of ids → same statement count for 5 or 30 kids
+    // ============================================================
+    @Test
+    void movesInConstantStatementsAndKeepsRosterAndSeatsRight() {
+
+        // ARRANGE 🧸
+        ClassroomDTO babies = room("Babies", null);
+        ClassroomDTO toddlers = room("Toddlers", null);
+        ClassroomDTO smallBabies = room("Small babies", null);
+        ClassroomDTO smallToddlers = room("Small toddlers", null);
+        List<Long> babyIds = enroll(babies, 30);
+        enroll(smallBabies, 5);
+
+        // ACT 🍼 whole classrooms, 30 vs 5 children
+        long bigCount = countStatements(() -> childService.moveChildren(BulkMoveDTO.builder()
+                .fromClassroomId(babies.getId()).toClassroomId(toddlers.getId()).build()));
+        long smallCount = countStatements(() -> childService.moveChildren(BulkMoveDTO.builder()
+                .fromClassroomId(smallBabies.getId()).toClassroomId(smallToddlers.getId()).build()));
+
+        // ACT 🍼 by ids: 3 go back, 1 of them listed twice, 1 already there
+        childService.moveChildren(BulkMoveDTO.builder()
+                .childIds(List.of(babyIds.get(3))).toClassroomId(babies.getId()).build());
+        BulkMoveResultDTO result = childService.moveChildren(BulkMoveDTO.builder()
+                .childIds(List.of(babyIds.get(3), babyIds.get(0), babyIds.get(1), babyIds.get(2), babyIds.get(2)))
+                .toClassroomId(babies.getId()).build());
+
+        // ASSERT ✨
+        assertThat(bigCount).isEqualTo(smallCount);
+        assertThat(result.getMoved()).isEqualTo(3);
+
+        assertThat(childRepository.findByClassroom_Id(toddlers.getId())).hasSize(26);
+        assertThat(childRepository.findByClassroom_Id(smallToddlers.getId())).hasSize(5);
+        assertThat(childService.getChildById(babyIds.get(0)).getClassroom().getClassName()).isEqualTo("Babies");
+        assertThat(classroomService.getCapacity(babies.getId()).getEnrolled()).isEqualTo(4);
+        assertThat(classroomService.getCapacity(toddlers.getId()).getEnrolled()).isEqualTo(26);
+
+        List<ClassroomDTO> incremental = classroomService.getClassroomsPage(null, 50).getItems();
+        rosterService.rebuild();
+        assertThat(incremental).isEqualTo(classroomService.getClassroomsPage(null, 50).getItems());
+        assertThat(classroomService.getClassromByClassroomId(toddlers.getId()).getChildren()).hasSize(26);
+    }
+
+    // ============================================================
+    // 🍼 target too small → 409 and nobody moves
+    // ============================================================
+    @Test
+    void moveIntoAFullClassroomChangesNothing() {
+
+        // ARRANGE 🧸
+        ClassroomDTO babies = room("Babies", null);
+        ClassroomDTO tiny = room("Tiny", 3);
+        enroll(babies, 4);
+
+        // ACT + ASSERT ✨
+        assertThatThrownBy(() -> childService.moveChildren(BulkMoveDTO.builder()
+                .fromClassroomId(babies.getId()).toClassroomId(tiny.getId()).build()))
+                .isInstanceOf(ClassroomFullException.class);
+        assertThat(childRepository.findByClassroom_Id(babies.getId())).hasSize(4);
+        assertThat(classroomService.getCapacity(babies.getId()).getEnrolled()).isEqualTo(4);
+        assertThat(classroomService.getCapacity(tiny.getId()).getEnrolled()).isZero();
+    }
+
+    private ClassroomDTO room(String name, Integer capacity) {
+        return classroomService.addClassroom(new ClassroomCreateDTO(name, teacher.getId(), capacity));
+    }
+
+    private List<Long> enroll(ClassroomDTO room, int count) {
+        List<DaycareChildCreateDTO> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(DaycareChildCreateDTO.builder()
+                    .firstName("Kid" + i).lastName(room.getClassName()).age(1).classroomId(room.getId()).build());
+        }
+        return childService.enrollChildren(rows).getEnrolled().stream().map(DaycareChildDTO::getId).toList();
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,155 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.ClassroomPatchDTO;
+import com.jorgegarcia.daycare.dto.ClassroomSummaryDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.dto.TeacherPatchDTO;
+import com.jorgegarcia.daycare.exception.ResourceNotFoundException;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 🍼 The roster kept up to date by the write paths must match a full rebuild
+@SpringBootTest
+class RosterServiceTest {
+
+    @Autowired
+    private RosterService rosterService;
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private DaycareChildService childService;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 add / rename / move / delete → same result as rebuild()
+    // ============================================================
+    @Test
+    void incrementalUpdatesMatchRebuild() {
+
+        // ARRANGE 🧸
+        TeacherDTO marina = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Marina").lastName("Princess").email("roster-marina@test.com").build());
+        ClassroomDTO butterflies = classroomService.addClassroom(new ClassroomCreateDTO("Butterflies", marina.getId()));
+        ClassroomDTO bees = classroomService.addClassroom(new ClassroomCreateDTO("Bees", marina.getId()));
+
+        DaycareChildDTO ana = childService.addDaycareChildren(child("Ana", butterflies.getId()));
+        DaycareChildDTO leo = childService.addDaycareChildren(child("Leo", butterflies.getId()));
+        DaycareChildDTO mia = childService.addDaycareChildren(child("Mia", bees.getId()));
+
+        // ACT 🍼
+        teacherService.patchTeacherById(marina.getId(), TeacherPatchDTO.builder().lastName("Queen").build());
+        classroomService.patchClassroom(bees.getId(), ClassroomPatchDTO.builder().className("Busy Bees").build());
+        childService.patchChild(leo.getId(), child("Leonardo", bees.getId()));
+        childService.deleteDaycareChild(mia.getId());
+
+        List<ClassroomDTO> incremental = classroomService.getClassroomsPage(null, 50).getItems();
+        rosterService.rebuild();
+        List<ClassroomDTO> rebuilt = classroomService.getClassroomsPage(null, 50).getItems();
+
+        // ASSERT ✨
+        assertThat(incremental).isEqualTo(rebuilt);
+        assertThat(incremental).extracting(ClassroomDTO::getClassName).containsExactly("Butterflies", "Busy Bees");
+        assertThat(incremental).allSatisfy(dto -> assertThat(dto.getTeacher().getFullName()).isEqualTo("Marina Queen"));
+        assertThat(incremental.get(0).getChildren()).extracting(c -> c.getId()).containsExactly(ana.getId());
+        assertThat(incremental.get(1).getChildren()).extracting(c -> c.getFullName()).containsExactly("Leonardo Lopez");
+    }
+
+    // ============================================================
+    // 🍼 first start on an old database: classrooms but no roster rows yet
+    // ============================================================
+    @Test
+    void emptyRosterIsBackfilledOnStartup() {
+
+        // ARRANGE 🧸
+        TeacherDTO marina = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Marina").lastName("Princess").email("roster-backfill@test.com").build());
+        ClassroomDTO butterflies = classroomService.addClassroom(new ClassroomCreateDTO("Butterflies", marina.getId()));
+        childService.addDaycareChildren(child("Ana", butterflies.getId()));
+        List<ClassroomDTO> before = classroomService.getClassroomsPage(null, 50).getItems();
+        rosterRepository.deleteAllInBatch();
+
+        // ACT 🍼 (app.roster.rebuild-on-startup is false)
+        rosterService.rebuildOnStartup();
+
+        // ASSERT ✨
+        assertThat(classroomService.getClassroomsPage(null, 50).getItems()).isEqualTo(before);
+        assertThat(before).singleElement().satisfies(dto -> assertThat(dto.getChildren()).hasSize(1));
+    }
+
+    // ============================================================
+    // 🍼 teacher deleted while still teaching → classrooms and children leave the roster
+    // ============================================================
+    @Test
+    void teacherCascadeDeleteRemovesRosterRows() {
+
+        // ARRANGE 🧸
+        TeacherDTO marina = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Marina").lastName("Princess").email("roster-cascade@test.com").build());
+        TeacherDTO sofia = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Sofia").lastName("Queen").email("roster-stays@test.com").build());
+        ClassroomDTO butterflies = classroomService.addClassroom(new ClassroomCreateDTO("Butterflies", marina.getId()));
+        ClassroomDTO bees = classroomService.addClassroom(new ClassroomCreateDTO("Bees", sofia.getId()));
+        DaycareChildDTO ana = childService.addDaycareChildren(child("Ana", butterflies.getId()));
+        childService.addDaycareChildren(child("Mia", bees.getId()));
+
+        // ACT 🍼
+        teacherService.deleteTeacher(marina.getId());
+
+        // ASSERT ✨
+        assertThat(classroomService.getClassroomsPage(null, 50).getItems()).extracting(ClassroomDTO::getClassName).containsExactly("Bees");
+        assertThatThrownBy(() -> classroomService.getClassroomByDaycareChildId(ana.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        List<ClassroomDTO> incremental = classroomService.getClassroomsPage(null, 50).getItems();
+        rosterService.rebuild();
+        assertThat(classroomService.getClassroomsPage(null, 50).getItems()).isEqualTo(incremental);
+    }
+
+    private DaycareChildDTO child(String firstName, Long classroomId) {
+        return DaycareChildDTO.builder()
+                .firstName(firstName)
+                .lastName("Lopez")
+                .age(3)
+                .classroom(ClassroomSummaryDTO.builder().id(classroomId).build())
+                .build();
+    }
+}
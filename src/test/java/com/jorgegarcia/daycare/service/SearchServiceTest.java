@@ -0,0 +1,148 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.ClassroomSummaryDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildSummaryDTO;
+import com.jorgegarcia.daycare.dto.SearchResultDTO;
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.dto.TeacherPatchDTO;
+import com.jorgegarcia.daycare.dto.TeacherSummaryDTO;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 🍼 The typeahead index follows the write paths (add / rename / delete)
+@SpringBootTest
+class SearchServiceTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private DaycareChildService childService;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @BeforeEach
+    void setup() {
+        // Other test classes delete rows straight through the repositories
+        searchService.rebuild();
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 prefixes of every word, accents ignored, emails searchable
+    // ============================================================
+    @Test
+    void findsByWordPrefixesAndFollowsWrites() {
+
+        // ARRANGE 🧸
+        TeacherDTO marina = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Marina").lastName("Princess").email("search-marina@test.com").build());
+        ClassroomDTO butterflies = classroomService.addClassroom(new ClassroomCreateDTO("Butterflies", marina.getId()));
+
+        DaycareChildDTO jose = childService.addDaycareChildren(child("José", "López", butterflies.getId()));
+        DaycareChildDTO josefa = childService.addDaycareChildren(child("Josefa", "Ruiz", butterflies.getId()));
+        childService.addDaycareChildren(child("Ana", "Lopez", butterflies.getId()));
+
+        // ACT + ASSERT ✨
+        assertThat(children(searchService.search("jose", 10, true, true)))
+                .containsExactlyInAnyOrder("José López", "Josefa Ruiz");
+        assertThat(children(searchService.search("jos lop", 10, true, true))).containsExactly("José López");
+        assertThat(searchService.search("jos", 1, true, false).getChildren()).hasSize(1);
+        assertThat(searchService.search("jos", 10, true, false).getTeachers()).isEmpty();
+        assertThat(searchService.search("j", 10, true, true).isTruncated()).isFalse(); // small index → whole range seen
+
+        assertThat(teachers(searchService.search("search-mar", 10, true, true))).containsExactly("Marina Princess");
+        assertThat(teachers(searchService.search("PRIN", 10, true, true))).containsExactly("Marina Princess");
+
+        // writes → index updated after commit
+        teacherService.patchTeacherById(marina.getId(), TeacherPatchDTO.builder().lastName("Queen").build());
+        childService.deleteDaycareChild(josefa.getId());
+
+        assertThat(teachers(searchService.search("prin", 10, true, true))).isEmpty();
+        assertThat(teachers(searchService.search("marina qu", 10, true, true))).containsExactly("Marina Queen");
+        assertThat(children(searchService.search("jose", 10, true, true))).containsExactly("José López");
+
+        // a full rebuild gives the same answers
+        searchService.rebuild();
+        assertThat(searchService.search("jose", 10, true, true).getChildren())
+                .extracting(DaycareChildSummaryDTO::getId).containsExactly(jose.getId());
+    }
+
+    // ============================================================
+    // 🍼 teacher deleted with its classrooms → its children leave the index
+    // ============================================================
+    @Test
+    void teacherCascadeDeleteRemovesItsChildren() {
+
+        // ARRANGE 🧸
+        TeacherDTO marina = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Marina").lastName("Princess").email("search-cascade@test.com").build());
+        ClassroomDTO butterflies = classroomService.addClassroom(new ClassroomCreateDTO("Butterflies", marina.getId()));
+        childService.addDaycareChildren(child("Rocío", "Vega", butterflies.getId()));
+        childService.addDaycareChildren(child("Rodrigo", "Vega", butterflies.getId()));
+        assertThat(children(searchService.search("vega", 10, true, true))).hasSize(2);
+
+        // ACT 🍼
+        teacherService.deleteTeacher(marina.getId());
+
+        // ASSERT ✨
+        assertThat(searchService.search("vega", 10, true, true).getChildren()).isEmpty();
+        assertThat(searchService.search("marina", 10, true, true).getTeachers()).isEmpty();
+    }
+
+    private static List<String> children(SearchResultDTO result) {
+        return result.getChildren().stream().map(DaycareChildSummaryDTO::getFullName).toList();
+    }
+
+    private static List<String> teachers(SearchResultDTO result) {
+        return result.getTeachers().stream().map(TeacherSummaryDTO::getFullName).toList();
+    }
+
+    private DaycareChildDTO child(String firstName, String lastName, Long classroomId) {
+        return DaycareChildDTO.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .age(3)
+                .classroom(ClassroomSummaryDTO.builder().id(classroomId).build())
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.StatsDTO;
+import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 🍼 Dashboard numbers come straight from GROUP BY queries
+@SpringBootTest
+class StatsServiceTest {
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @AfterEach
+    void cleanup() {
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 empty classrooms / teachers show up with 0, ages are bucketed
+    // ============================================================
+    @Test
+    void countsPerClassroomTeacherAndAge() {
+
+        // ARRANGE 🧸
+        Teacher marina = teacherRepository.save(teacher("marina"));
+        Teacher idle = teacherRepository.save(teacher("idle"));
+        Classroom butterflies = classroomRepository.save(Classroom.builder().className("Butterflies").teacher(marina).build());
+        Classroom bees = classroomRepository.save(Classroom.builder().className("Bees").teacher(marina).build());
+        childRepository.saveAll(List.of(child(butterflies, 3), child(butterflies, 3), child(butterflies, 4)));
+
+        // ACT 🍼
+        StatsDTO stats = statsService.getStats();
+
+        // ASSERT ✨
+        assertThat(stats.getTotalChildren()).isEqualTo(3);
+        assertThat(stats.getTotalClassrooms()).isEqualTo(2);
+        assertThat(stats.getTotalTeachers()).isEqualTo(2);
+        assertThat(stats.getChildrenPerClassroom()).isEqualTo(Map.of(butterflies.getId(), 3L, bees.getId(), 0L));
+        assertThat(stats.getClassroomsPerTeacher()).isEqualTo(Map.of(marina.getId(), 2L, idle.getId(), 0L));
+        assertThat(stats.getChildrenByAge()).isEqualTo(Map.of(3L, 2L, 4L, 1L));
+    }
+
+    // ============================================================
+    // 🍼 no age / no classroom → still counted in the total
+    // ============================================================
+    @Test
+    void childrenWithoutAgeCountInTheTotal() {
+
+        // ARRANGE 🧸
+        Teacher marina = teacherRepository.save(teacher("ageless"));
+        Classroom butterflies = classroomRepository.save(Classroom.builder().className("Butterflies").teacher(marina).build());
+        childRepository.saveAll(List.of(
+                child(butterflies, 3),
+                DaycareChild.builder().firstName("Kid").lastName("NoAge").classroom(butterflies).build(),
+                DaycareChild.builder().firstName("Kid").lastName("Nowhere").build()));
+
+        // ACT 🍼
+        StatsDTO stats = statsService.getStats();
+
+        // ASSERT ✨
+        assertThat(stats.getTotalChildren()).isEqualTo(3);
+        assertThat(stats.getChildrenByAge()).isEqualTo(Map.of(3L, 1L));
+        assertThat(stats.getChildrenPerClassroom()).isEqualTo(Map.of(butterflies.getId(), 2L));
+    }
+
+    private Teacher teacher(String name) {
+        return Teacher.builder().firstName(name).lastName("Test").email(name + "@stats.com").build();
+    }
+
+    private DaycareChild child(Classroom classroom, int age) {
+        return DaycareChild.builder().firstName("Kid").lastName("Stats").age(age).classroom(classroom).build();
+    }
+}
@@ -1,22 +1,29 @@
 package com.jorgegarcia.daycare.service;
 
+import com.jorgegarcia.daycare.cache.DtoCache;
+import com.jorgegarcia.daycare.dto.CursorPageDTO;
 import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
 import com.jorgegarcia.daycare.dto.TeacherDTO;
 import com.jorgegarcia.daycare.dto.TeacherPatchDTO;
 import com.jorgegarcia.daycare.dto.TeacherUpdateDTO;
 import com.jorgegarcia.daycare.exception.DuplicateEntryException;
+import com.jorgegarcia.daycare.exception.InvalidRequestException;
 import com.jorgegarcia.daycare.exception.ResourceNotFoundException;
 import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
 import com.jorgegarcia.daycare.repository.TeacherRepository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,13 +38,34 @@ class TeacherServiceTest {
     @Mock
     private TeacherRepository teacherRepository; // 🍼 Fake repository (no DB needed)
 
-    @InjectMocks
-    private TeacherService teacherService; // 🍼 Service with mocks injected
+    @Mock
+    private ClassroomRepository classroomRepository;
+
+    @Mock
+    private RosterService rosterService;
+
+    @Mock
+    private SearchService searchService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager; // 🍼 cache misses run in a TransactionTemplate
+
+    private TeacherService teacherService; // 🍼 Service with the mock repo + real (empty) caches
 
     private Teacher teacherEntity;
 
     @BeforeEach
     void setup() {
+        teacherService = new TeacherService(
+                teacherRepository,
+                classroomRepository,
+                new DtoCache<>("teacherDto", Duration.ofMinutes(1), 100),
+                new DtoCache<>("classroomDto", Duration.ofMinutes(1), 100),
+                rosterService,
+                searchService,
+                transactionManager
+        );
+
         // 🍼 Create a fake teacher entity reused in tests
         teacherEntity = Teacher.builder()
                 .id(1L)
@@ -49,26 +77,7 @@ class TeacherServiceTest {
     }
 
     // ============================================================
-    // 🍼 TEST 1 — getAllTeachers()
-    // ============================================================
-    @Test
-    void shouldReturnAllTeachers() {
-
-        // ARRANGE 🧸
-        when(teacherRepository.findAll()).thenReturn(List.of(teacherEntity));
-
-        // ACT 🍼
-        List<TeacherDTO> result = teacherService.getAllTeachers();
-
-        // ASSERT ✨
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getEmail()).isEqualTo("marina@test.com");
-
-        verify(teacherRepository, times(1)).findAll();
-    }
-
-    // ============================================================
-    // 🍼 TEST 2 — addTeacher() success
+    // 🍼 TEST 1 — addTeacher() success
     // ============================================================
     @Test
     void shouldAddNewTeacherWhenEmailNotUsed() {
@@ -80,9 +89,8 @@ class TeacherServiceTest {
                 .email("marina@test.com")
                 .build();
 
-        // email is available → empty Optional
-        when(teacherRepository.findByEmail("marina@test.com")).thenReturn(Optional.empty());
-        when(teacherRepository.save(any())).thenReturn(teacherEntity);
+        // email is available → insert goes through
+        when(teacherRepository.saveAndFlush(any())).thenReturn(teacherEntity);
 
         // ACT
         TeacherDTO result = teacherService.addTeacher(dto);
@@ -90,11 +98,12 @@ class TeacherServiceTest {
         // ASSERT
         assertThat(result.getEmail()).isEqualTo("marina@test.com");
 
-        verify(teacherRepository).save(any());
+        verify(teacherRepository).saveAndFlush(any());
+        verify(teacherRepository, never()).findByEmail(any()); // no pre-SELECT
     }
 
     // ============================================================
-    // 🍼 TEST 3 — addTeacher() duplicate email
+    // 🍼 TEST 2 — addTeacher() duplicate email
     // ============================================================
     @Test
     void shouldNotAddTeacherWhenEmailAlreadyExists() {
@@ -106,16 +115,14 @@ class TeacherServiceTest {
                 .email("marina@test.com")
                 .build();
 
-        // email exists → return entity
-        when(teacherRepository.findByEmail("marina@test.com"))
-                .thenReturn(Optional.of(teacherEntity));
+        // email exists → unique index ux_teacher_email rejects the insert
+        when(teacherRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("ux_teacher_email"));
 
         // ACT + ASSERT
         assertThatThrownBy(() -> teacherService.addTeacher(dto))
                 .isInstanceOf(DuplicateEntryException.class)
                 .hasMessage("Email already exists");
-
-        verify(teacherRepository, never()).save(any());
     }
     @Test
     void shouldReturnTeacherById() {
@@ -133,6 +140,24 @@ class TeacherServiceTest {
     verify(teacherRepository, times(1)).findById(1L);
   }
 
+  @Test
+  void shouldServeSecondReadFromCacheUntilTeacherIsUpdated() {
+
+    // ARRANGE 🧸
+    when(teacherRepository.findById(1L)).thenReturn(Optional.of(teacherEntity));
+    when(teacherRepository.saveAndFlush(any())).thenReturn(teacherEntity);
+
+    // ACT 🍼 read, read again, write, read
+    teacherService.getTeacherByTeacherId(1L);
+    teacherService.getTeacherByTeacherId(1L);
+    teacherService.patchTeacherById(1L, TeacherPatchDTO.builder().firstName("Patched").build());
+    TeacherDTO afterPatch = teacherService.getTeacherByTeacherId(1L);
+
+    // ASSERT ✨ 1 DB read for the two cached reads, 1 for the patch, 1 after eviction
+    assertThat(afterPatch.getFirstName()).isEqualTo("Patched");
+    verify(teacherRepository, times(3)).findById(1L);
+  }
+
   @Test
   void shouldThrowWhenTeacherNotFound() {
 
@@ -166,7 +191,7 @@ class TeacherServiceTest {
               .classes(List.of())
               .build();
 
-      when(teacherRepository.save(any())).thenReturn(updatedEntity);
+      when(teacherRepository.saveAndFlush(any())).thenReturn(updatedEntity);
 
       // ACT ✨
       TeacherDTO result = teacherService.updateTeacherById(1L, dto);
@@ -211,7 +236,7 @@ class TeacherServiceTest {
               .classes(List.of())
               .build();
 
-      when(teacherRepository.save(any())).thenReturn(patchedEntity);
+      when(teacherRepository.saveAndFlush(any())).thenReturn(patchedEntity);
 
       // ACT ✨
       TeacherDTO result = teacherService.patchTeacherById(1L, dto);
@@ -220,6 +245,46 @@ class TeacherServiceTest {
       assertThat(result.getFirstName()).isEqualTo("Patched");
       assertThat(result.getLastName()).isEqualTo("Princess"); // same
   }
+  @Test
+  void shouldNotUpdateTeacherWhenEmailAlreadyExists() {
+
+      // ARRANGE 💔 the unique index rejects the new email on flush
+      when(teacherRepository.findById(1L)).thenReturn(Optional.of(teacherEntity));
+      when(teacherRepository.saveAndFlush(any()))
+              .thenThrow(new DataIntegrityViolationException("ux_teacher_email"));
+
+      TeacherUpdateDTO dto = TeacherUpdateDTO.builder()
+              .firstName("Marina")
+              .lastName("Princess")
+              .email("taken@test.com")
+              .build();
+
+      // ACT + ASSERT 💥
+      assertThatThrownBy(() -> teacherService.updateTeacherById(1L, dto))
+              .isInstanceOf(DuplicateEntryException.class)
+              .hasMessage("Email already exists");
+
+      verify(teacherRepository, never()).save(any());
+      verifyNoInteractions(rosterService, searchService);
+  }
+
+  @Test
+  void shouldNotPatchTeacherWhenEmailAlreadyExists() {
+
+      // ARRANGE 💔
+      when(teacherRepository.findById(1L)).thenReturn(Optional.of(teacherEntity));
+      when(teacherRepository.saveAndFlush(any()))
+              .thenThrow(new DataIntegrityViolationException("ux_teacher_email"));
+
+      // ACT + ASSERT 💥
+      assertThatThrownBy(() -> teacherService.patchTeacherById(1L,
+              TeacherPatchDTO.builder().email("taken@test.com").build()))
+              .isInstanceOf(DuplicateEntryException.class)
+              .hasMessage("Email already exists");
+
+      verifyNoInteractions(rosterService, searchService);
+  }
+
   @Test
   void shouldThrowWhenPatchingNonexistentTeacher() {
 
@@ -247,6 +312,20 @@ class TeacherServiceTest {
       // ASSERT ✔
       verify(teacherRepository, times(1)).delete(teacherEntity);
   }
+  @Test
+  void shouldDeleteTeacherWithoutClassroomsWithoutLoadingIt() {
+
+      // ARRANGE 🧸
+      when(teacherRepository.deleteRowByIdIfNoClassrooms(1L)).thenReturn(1);
+
+      // ACT ✨
+      teacherService.deleteTeacher(1L);
+
+      // ASSERT ✔
+      verify(teacherRepository, never()).findById(any());
+      verify(teacherRepository, never()).delete(any());
+  }
+
   @Test
   void shouldThrowWhenDeletingNonexistentTeacher() {
 
@@ -261,5 +340,56 @@ class TeacherServiceTest {
       verify(teacherRepository, never()).delete(any());
   }
 
+  // ============================================================
+  // 🍼 Keyset pages: WHERE id > cursor, LIMIT size + 1
+  // ============================================================
+  @Test
+  void shouldPageTeachersByIdCursor() {
+
+      // ARRANGE 🧸 ids 1..3 exist, page size 2
+      Teacher second = Teacher.builder().id(2L).firstName("Ana").lastName("Ruiz").classes(List.of()).build();
+      Teacher third = Teacher.builder().id(3L).firstName("Leo").lastName("Sol").classes(List.of()).build();
+      when(teacherRepository.findIdsAfter(0L, Limit.of(3))).thenReturn(List.of(1L, 2L, 3L));
+      when(teacherRepository.findWithClassesByIdIn(List.of(1L, 2L, 3L)))
+              .thenReturn(List.of(teacherEntity, second, third));
+      when(teacherRepository.findIdsAfter(2L, Limit.of(3))).thenReturn(List.of(3L));
+      when(teacherRepository.findWithClassesByIdIn(List.of(3L))).thenReturn(List.of(third));
+
+      // ACT 🍼 first page, then follow its cursor
+      CursorPageDTO<TeacherDTO> first = teacherService.getTeachersPage(null, 2);
+      CursorPageDTO<TeacherDTO> last = teacherService.getTeachersPage(first.getNextCursor(), 2);
+
+      // ASSERT ✨ the extra row only signals "more", the cursor resumes after the last id shown
+      assertThat(first.getItems()).extracting(TeacherDTO::getId).containsExactly(1L, 2L);
+      assertThat(first.getSize()).isEqualTo(2);
+      assertThat(KeysetPaging.decodeCursor(first.getNextCursor())).isEqualTo(2L);
+      assertThat(last.getItems()).extracting(TeacherDTO::getId).containsExactly(3L);
+      assertThat(last.getNextCursor()).isNull();
+      verify(teacherRepository, never()).findAll();
+  }
+
+  @Test
+  void shouldReturnEmptyPageWithoutLoadingTeachers() {
 
+      // ARRANGE 🧸 cursor past the last id
+      when(teacherRepository.findIdsAfter(9L, Limit.of(11))).thenReturn(List.of());
+
+      // ACT 🍼
+      CursorPageDTO<TeacherDTO> page = teacherService.getTeachersPage(KeysetPaging.encodeCursor(9L), 10);
+
+      // ASSERT ✨
+      assertThat(page.getItems()).isEmpty();
+      assertThat(page.getNextCursor()).isNull();
+      verify(teacherRepository, never()).findWithClassesByIdIn(any());
+  }
+
+  @Test
+  void shouldRejectATamperedCursor() {
+
+      // ACT + ASSERT 💥
+      assertThatThrownBy(() -> teacherService.getTeachersPage("not-a-cursor!", 10))
+              .isInstanceOf(InvalidRequestException.class)
+              .hasMessage("Invalid cursor");
+      verifyNoInteractions(teacherRepository);
+  }
 }
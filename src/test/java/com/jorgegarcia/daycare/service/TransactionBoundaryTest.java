@@ -0,0 +1,153 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.ClassroomPatchDTO;
+import com.jorgegarcia.daycare.dto.ClassroomSummaryDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.dto.TeacherPatchDTO;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 🍼 open-in-view is off: every DTO is built inside its service transaction,
+// so a lazy load that escapes one throws here, and no call keeps a connection
+@SpringBootTest
+class TransactionBoundaryTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private DaycareChildService childService;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void openSessionInViewIsDisabled() {
+        assertThat(context.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+        assertThat(context.getBeansOfType(OpenEntityManagerInViewFilter.class)).isEmpty();
+    }
+
+    @Test
+    void lazyLoadOutsideATransactionFails() {
+        // ARRANGE
+        TeacherDTO teacher = teacherService.addTeacher(new TeacherCreateDTO("Lazy", "Check", "lazy@daycare.test"));
+
+        // ACT: the entity comes back detached from the repository's own transaction
+        Teacher detached = teacherRepository.findById(teacher.getId()).orElseThrow();
+
+        // ASSERT: the net the other test relies on (no enable_lazy_load_no_trans)
+        assertThatThrownBy(() -> detached.getClasses().size())
+                .isInstanceOf(LazyInitializationException.class);
+    }
+
+    @Test
+    void everyServiceCallBuildsItsDtoInsideTheTransaction() {
+        // ARRANGE: teacher → classroom → child, each through its service
+        TeacherDTO teacher = outsideTransaction(() ->
+                teacherService.addTeacher(new TeacherCreateDTO("Ana", "Ruiz", "ana.tx@daycare.test")));
+        ClassroomDTO classroom = outsideTransaction(() ->
+                classroomService.addClassroom(new ClassroomCreateDTO("Tx Room", teacher.getId(), 10)));
+        DaycareChildDTO child = outsideTransaction(() -> childService.addDaycareChildren(DaycareChildDTO.builder()
+                .firstName("Leo").lastName("Tx").age(3)
+                .classroom(ClassroomSummaryDTO.builder().id(classroom.getId()).build())
+                .build()));
+        long teacherId = teacher.getId();
+        long classroomId = classroom.getId();
+        long childId = child.getId();
+
+        // ACT + ASSERT: reads (Teacher.classes and Classroom.children are lazy)
+        assertThat(outsideTransaction(() -> teacherService.getTeachersPage(null, 10)).getItems())
+                .anySatisfy(t -> assertThat(t.getClassrooms()).extracting(ClassroomSummaryDTO::getId).contains(classroomId));
+        assertThat(outsideTransaction(() -> teacherService.getTeacherByTeacherId(teacherId)).getClassrooms()).hasSize(1);
+        assertThat(outsideTransaction(() -> classroomService.getClassroomsPage(null, 10)).getItems())
+                .anySatisfy(c -> assertThat(c.getChildren()).hasSize(1));
+        assertThat(outsideTransaction(() -> classroomService.getClassromByClassroomId(classroomId)).getChildren()).hasSize(1);
+        assertThat(outsideTransaction(() -> classroomService.getClassroomByDaycareChildId(childId))).hasSize(1);
+        assertThat(outsideTransaction(() -> classroomService.getCapacity(classroomId)).getEnrolled()).isEqualTo(1);
+        assertThat(outsideTransaction(() -> childService.getChildrenPage(null, 10)).getItems()).isNotEmpty();
+        assertThat(outsideTransaction(() -> childService.getChildById(childId)).getClassroom().getId()).isEqualTo(classroomId);
+        assertThat(outsideTransaction(() -> childService.getChildrenByClassroomId(classroomId))).hasSize(1);
+        assertThat(outsideTransaction(() -> attendanceService.getChildTimeline(childId, LocalDate.now()))).isEmpty();
+        assertThat(outsideTransaction(() -> attendanceService.getClassroomTimeline(classroomId, LocalDate.now()))).isEmpty();
+
+        // ACT + ASSERT: writes that map the entity they just changed
+        assertThat(outsideTransaction(() -> teacherService.patchTeacherById(teacherId,
+                TeacherPatchDTO.builder().firstName("Anna").build())).getClassrooms()).hasSize(1);
+        assertThat(outsideTransaction(() -> classroomService.patchClassroom(classroomId,
+                ClassroomPatchDTO.builder().className("Tx Room 2").build())).getChildren()).hasSize(1);
+        assertThat(outsideTransaction(() -> childService.patchChild(childId,
+                DaycareChildDTO.builder().age(4).build())).getClassroom().getId()).isEqualTo(classroomId);
+    }
+
+    // Runs the call the way a controller does (no surrounding transaction, no open session),
+    // then checks the pool got its connection back before the caller touches the DTO
+    private <T> T outsideTransaction(Supplier<T> call) {
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+        T result = call.get();
+        assertThat(activeConnections()).as("connections still checked out").isZero();
+        return result;
+    }
+
+    private int activeConnections() {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
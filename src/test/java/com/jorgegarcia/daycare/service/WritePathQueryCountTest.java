@@ -0,0 +1,183 @@
+package com.jorgegarcia.daycare.service;
+
+import com.jorgegarcia.daycare.dto.ClassroomSummaryDTO;
+import com.jorgegarcia.daycare.dto.ClassroomUpdateDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.model.Classroom;
+import com.jorgegarcia.daycare.model.DaycareChild;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 🍼 Round trips per write: deletes load nothing, unchanged fields send no SQL
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class WritePathQueryCountTest {
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private DaycareChildService childService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private RosterService rosterService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Teacher teacher;
+    private Classroom classroom;
+    private List<DaycareChild> children;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        teacher = teacherRepository.save(Teacher.builder()
+                .firstName("Ana").lastName("Write").email("write" + System.nanoTime() + "@test.com").build());
+        classroom = classroomRepository.save(Classroom.builder().className("Write Room").teacher(teacher).build());
+        children = childRepository.saveAll(List.of(
+                DaycareChild.builder().firstName("Kid1").lastName("Write").age(3).classroom(classroom).build(),
+                DaycareChild.builder().firstName("Kid2").lastName("Write").age(4).classroom(classroom).build()));
+        classroomRepository.reserveSeats(classroom.getId(), children.size());
+        rosterService.rebuild(); // seeded through the repositories → roster built here
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 deleteTeacher() without classrooms — a single DELETE
+    // ============================================================
+    @Test
+    void deleteTeacherWithoutClassroomsIsOneStatement() {
+
+        // ARRANGE 🧸
+        Teacher idle = teacherRepository.save(Teacher.builder()
+                .firstName("Idle").lastName("Write").email("idle" + System.nanoTime() + "@test.com").build());
+
+        // ACT 🍼
+        long count = countStatements(() -> teacherService.deleteTeacher(idle.getId()));
+
+        // ASSERT ✨
+        assertThat(count).isEqualTo(1);
+        assertThat(teacherRepository.existsById(idle.getId())).isFalse();
+    }
+
+    // ============================================================
+    // 🍼 deleteClassroom() — no entity or children collection loaded
+    // ============================================================
+    @Test
+    void deleteClassroomLoadsNothing() {
+
+        // ARRANGE 🧸: a classroom with children is refused and stays
+        assertThatThrownBy(() -> classroomService.deleteClassroom(classroom.getId()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(classroomRepository.existsById(classroom.getId())).isTrue();
+
+        Classroom empty = classroomRepository.save(Classroom.builder().className("Empty").teacher(teacher).build());
+
+        // ACT 🍼
+        long count = countStatements(() -> classroomService.deleteClassroom(empty.getId()));
+
+        // ASSERT ✨: teacher id, DELETE, roster, teacher version
+        assertThat(count).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(classroomRepository.existsById(empty.getId())).isFalse();
+    }
+
+    // ============================================================
+    // 🍼 deleteDaycareChild() — classroom id only, seat given back
+    // ============================================================
+    @Test
+    void deleteChildLoadsNothing() {
+
+        // ACT 🍼
+        long count = countStatements(() -> childService.deleteDaycareChild(children.get(0).getId()));
+
+        // ASSERT ✨: classroom id, DELETE, roster, seat, classroom version
+        assertThat(count).isEqualTo(5);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(childRepository.existsById(children.get(0).getId())).isFalse();
+        assertThat(classroomService.getCapacity(classroom.getId()).getEnrolled()).isEqualTo(1);
+    }
+
+    // ============================================================
+    // 🍼 PUT with the same values — only the reads for the response
+    // ============================================================
+    @Test
+    void unchangedClassroomPutWritesNothing() {
+
+        // ACT 🍼
+        long count = countStatements(() -> classroomService.updateClassroom(classroom.getId(),
+                new ClassroomUpdateDTO("Write Room", teacher.getId(), null)));
+
+        // ASSERT ✨: classroom (+ teacher, joined) and its children for the DTO
+        assertThat(count).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    // ============================================================
+    // 🍼 PATCH of one field, same classroom — no classroom lookup
+    // ============================================================
+    @Test
+    void patchChildNameKeepsRoundTrips() {
+
+        // ACT 🍼
+        long count = countStatements(() -> childService.patchChild(children.get(1).getId(),
+                DaycareChildDTO.builder()
+                        .firstName("Renamed")
+                        .classroom(new ClassroomSummaryDTO(classroom.getId(), null))
+                        .build()));
+
+        // ASSERT ✨: child (+ classroom, joined), roster name, classroom version, child UPDATE
+        assertThat(count).isEqualTo(4);
+        assertThat(childRepository.findById(children.get(1).getId()).orElseThrow().getFirstName())
+                .isEqualTo("Renamed");
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,115 @@
+package com.jorgegarcia.daycare.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.model.Teacher;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.jorgegarcia.daycare.security.AppUser;
+import com.jorgegarcia.daycare.security.AppUserRepository;
+import com.jorgegarcia.daycare.security.JwtService;
+import com.jorgegarcia.daycare.security.Role;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 🍼 Same endpoints, CBOR / Smile in and out, JSON still the default
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryContentNegotiationTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    private String auth;
+
+    @BeforeEach
+    void setup() {
+        AppUser admin = userRepository.save(AppUser.builder()
+                .username("binary-admin").password("x").role(Role.ADMIN).build());
+        auth = "Bearer " + jwtService.generateAccessToken(admin);
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 POST a Smile body, read it back as CBOR, and as JSON by default
+    // ============================================================
+    @Test
+    void acceptsAndServesBinaryFormats() throws Exception {
+
+        // ARRANGE 🧸
+        Teacher teacher = teacherRepository.save(Teacher.builder()
+                .firstName("Marina").lastName("Princess").email("binary@test.com").build());
+        byte[] smileBody = new SmileMapper().writeValueAsBytes(new ClassroomCreateDTO("Butterflies", teacher.getId()));
+
+        // ACT 🍼
+        byte[] created = mockMvc.perform(post("/api/classrooms").header("Authorization", auth)
+                        .contentType(SMILE).content(smileBody).accept(SMILE))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+        long id = new SmileMapper().readTree(created).get("id").asLong();
+
+        byte[] cbor = mockMvc.perform(get("/api/classrooms/" + id).header("Authorization", auth).accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String json = mockMvc.perform(get("/api/classrooms/" + id).header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // ASSERT ✨ (same document, fewer bytes)
+        JsonNode fromCbor = new CBORMapper().readTree(cbor);
+        assertThat(fromCbor).isEqualTo(new ObjectMapper().readTree(json));
+        assertThat(fromCbor.get("className").asText()).isEqualTo("Butterflies");
+        assertThat(cbor.length).isLessThan(json.length());
+    }
+}
@@ -0,0 +1,159 @@
+package com.jorgegarcia.daycare.web;
+
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.jorgegarcia.daycare.security.AppUser;
+import com.jorgegarcia.daycare.security.AppUserRepository;
+import com.jorgegarcia.daycare.security.JwtService;
+import com.jorgegarcia.daycare.security.Role;
+import com.jorgegarcia.daycare.service.ClassroomService;
+import com.jorgegarcia.daycare.service.TeacherService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 🍼 POST /api/daycareKids/bulk: bad rows reported by index, good rows saved in JDBC batches
+@SpringBootTest
+@AutoConfigureMockMvc
+class BulkEnrollmentEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String auth;
+    private ClassroomDTO classroom;
+
+    @BeforeEach
+    void setup() {
+        AppUser admin = userRepository.save(AppUser.builder()
+                .username("bulk-admin").password("x").role(Role.ADMIN).build());
+        auth = "Bearer " + jwtService.generateAccessToken(admin);
+        TeacherDTO teacher = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Bulk").lastName("Teacher").email("bulk@test.com").build());
+        classroom = classroomService.addClassroom(new ClassroomCreateDTO("Bulk room", teacher.getId()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 null row, missing name, unknown classroom → failures; the rest enrolled
+    // ============================================================
+    @Test
+    void mixedRowsReportFailuresPerRowAndSaveTheRest() throws Exception {
+
+        // ARRANGE 🧸
+        String body = """
+                [
+                  {"firstName":"Leo","lastName":"Ok","age":2,"classroomId":%1$d},
+                  null,
+                  {"lastName":"NoFirstName","classroomId":%1$d},
+                  {"firstName":"Mia","lastName":"Lost","classroomId":999999},
+                  {"firstName":"Eva","lastName":"Ok","classroomId":%1$d}
+                ]
+                """.formatted(classroom.getId());
+
+        // ACT + ASSERT ✨
+        mockMvc.perform(post("/api/daycareKids/bulk").header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(5))
+                .andExpect(jsonPath("$.enrolled.length()").value(2))
+                .andExpect(jsonPath("$.enrolled[0].firstName").value("Leo"))
+                .andExpect(jsonPath("$.enrolled[1].firstName").value("Eva"))
+                .andExpect(jsonPath("$.failures.length()").value(3))
+                .andExpect(jsonPath("$.failures[0].index").value(1))
+                .andExpect(jsonPath("$.failures[0].message").value("Row is empty"))
+                .andExpect(jsonPath("$.failures[1].index").value(2))
+                .andExpect(jsonPath("$.failures[1].message").value("First name is required"))
+                .andExpect(jsonPath("$.failures[2].index").value(3))
+                .andExpect(jsonPath("$.failures[2].message").value("Classroom 999999 not found"));
+
+        assertThat(childRepository.findByClassroom_Id(classroom.getId())).hasSize(2);
+        assertThat(classroomService.getClassromByClassroomId(classroom.getId()).getChildren()).hasSize(2);
+    }
+
+    // ============================================================
+    // 🍼 120 children → a handful of statements, not one INSERT per child
+    // ============================================================
+    @Test
+    void insertsAreSentInJdbcBatches() throws Exception {
+
+        // ARRANGE 🧸
+        StringJoiner rows = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 120; i++) {
+            rows.add("{\"firstName\":\"Kid%d\",\"lastName\":\"Batch\",\"age\":3,\"classroomId\":%d}"
+                    .formatted(i, classroom.getId()));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // ACT 🍼
+        mockMvc.perform(post("/api/daycareKids/bulk").header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON).content(rows.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrolled.length()").value(120))
+                .andExpect(jsonPath("$.failures.length()").value(0));
+
+        // ASSERT ✨ 240 rows (child + roster) in batches of 50, plus the fixed reads / counters
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(240);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(30);
+        assertThat(childRepository.findByClassroom_Id(classroom.getId())).hasSize(120);
+    }
+}
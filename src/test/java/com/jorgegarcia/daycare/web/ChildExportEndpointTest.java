@@ -0,0 +1,176 @@
+package com.jorgegarcia.daycare.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.ClassroomSummaryDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.jorgegarcia.daycare.security.AppUser;
+import com.jorgegarcia.daycare.security.AppUserRepository;
+import com.jorgegarcia.daycare.security.JwtService;
+import com.jorgegarcia.daycare.security.Role;
+import com.jorgegarcia.daycare.service.ClassroomService;
+import com.jorgegarcia.daycare.service.DaycareChildService;
+import com.jorgegarcia.daycare.service.TeacherService;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 🍼 GET /api/daycareKids/export: one JSON object per line, streamed from a JDBC cursor
+@SpringBootTest
+@AutoConfigureMockMvc
+class ChildExportEndpointTest {
+
+    private static final int CHILDREN = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private DaycareChildService childService;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    @Autowired
+    private EntityManager entityManager; // shared proxy → the export's own session while it runs
+
+    private String auth;
+    private ClassroomDTO classroom;
+
+    @BeforeEach
+    void setup() {
+        AppUser admin = userRepository.save(AppUser.builder()
+                .username("export-admin").password("x").role(Role.ADMIN).build());
+        auth = "Bearer " + jwtService.generateAccessToken(admin);
+        TeacherDTO teacher = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Export").lastName("Teacher").email("export@test.com").build());
+        classroom = classroomService.addClassroom(new ClassroomCreateDTO("Export room", teacher.getId()));
+        for (int i = 0; i < CHILDREN; i++) {
+            childService.addDaycareChildren(DaycareChildDTO.builder()
+                    .firstName("Kid" + i).lastName("Export").age(2)
+                    .classroom(ClassroomSummaryDTO.builder().id(classroom.getId()).build())
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 NDJSON content type, one child per line, ordered by id
+    // ============================================================
+    @Test
+    void exportWritesOneJsonObjectPerLine() throws Exception {
+
+        // ACT 🍼 StreamingResponseBody → async dispatch
+        MvcResult started = mockMvc.perform(get("/api/daycareKids/export").header("Authorization", auth))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // ASSERT ✨ no array brackets, no blank lines, every line parses on its own
+        assertThat(body).endsWith("\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(CHILDREN);
+        List<Long> ids = new ArrayList<>();
+        for (String line : lines) {
+            JsonNode child = objectMapper.readTree(line);
+            assertThat(child.isObject()).as(line).isTrue();
+            assertThat(child.get("lastName").asText()).isEqualTo("Export");
+            assertThat(child.get("classroom").get("id").asLong()).isEqualTo(classroom.getId());
+            ids.add(child.get("id").asLong());
+        }
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    // 🍼 the async re-dispatch is let through, the request itself still needs a token
+    @Test
+    void exportNeedsAToken() throws Exception {
+        mockMvc.perform(get("/api/daycareKids/export"))
+                .andExpect(status().isForbidden());
+    }
+
+    // ============================================================
+    // 🍼 each child is detached once written → the session never grows with the export
+    // ============================================================
+    @Test
+    void exportDetachesEveryChildAfterWritingIt() {
+
+        // ARRANGE 🧸
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger mostManaged = new AtomicInteger();
+
+        // ACT 🍼 count the entities the export's session holds at every row
+        childService.exportAllChildren(child -> {
+            written.incrementAndGet();
+            int managed = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+            mostManaged.accumulateAndGet(managed, Math::max);
+        });
+
+        // ASSERT ✨ current child + its classroom + that classroom's teacher, never the 30 children
+        assertThat(written.get()).isEqualTo(CHILDREN);
+        assertThat(mostManaged.get()).isLessThanOrEqualTo(3);
+    }
+}
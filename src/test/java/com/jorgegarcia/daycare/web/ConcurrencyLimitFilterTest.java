@@ -0,0 +1,110 @@
+package com.jorgegarcia.daycare.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            1, Duration.ofMillis(50), new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    // ============================================================
+    // 🍼 Limit reached → the next request gets a fast 503 + Retry-After
+    // ============================================================
+    @Test
+    void rejectsWhenAllPermitsAreTaken() throws Exception {
+
+        // ARRANGE 🧸 one slow request holds the only permit
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/classrooms"), new MockHttpServletResponse(),
+                        new MockFilterChain(new HttpServlet() {
+                            @Override
+                            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                                inside.countDown();
+                                await(release);
+                            }
+                        }));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertThat(inside.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // ACT 🍼
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/classrooms"), rejected, new MockFilterChain());
+
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+
+        // ASSERT ✨
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("\"status\":503");
+        assertThat(filter.getRejected()).isEqualTo(1);
+        assertThat(filter.getInFlight()).isZero();
+
+        // permit is back → next request goes through
+        MockHttpServletResponse ok = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/classrooms"), ok, new MockFilterChain());
+        assertThat(ok.getStatus()).isEqualTo(200);
+    }
+
+    // ============================================================
+    // 🍼 Async request (export, login) → the permit is held until the async work completes
+    // ============================================================
+    @Test
+    void asyncRequestKeepsItsPermitUntilCompletion() throws Exception {
+
+        // ARRANGE 🧸 the handler starts async work and returns the thread
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/api/daycareKids/export");
+        export.setAsyncSupported(true);
+        filter.doFilter(export, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                req.startAsync();
+            }
+        }));
+
+        // ACT 🍼 another request while the async work is still running
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/classrooms"), rejected, new MockFilterChain());
+        int inFlightDuringAsync = filter.getInFlight();
+        export.getAsyncContext().complete();
+
+        // ASSERT ✨ busy while async, free once it completes
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(inFlightDuringAsync).isEqualTo(1);
+        assertThat(filter.getInFlight()).isZero();
+        MockHttpServletResponse ok = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/classrooms"), ok, new MockFilterChain());
+        assertThat(ok.getStatus()).isEqualTo(200);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.jorgegarcia.daycare.web;
+
+import com.jorgegarcia.daycare.dto.ClassroomCreateDTO;
+import com.jorgegarcia.daycare.dto.ClassroomDTO;
+import com.jorgegarcia.daycare.dto.ClassroomSummaryDTO;
+import com.jorgegarcia.daycare.dto.DaycareChildDTO;
+import com.jorgegarcia.daycare.dto.TeacherCreateDTO;
+import com.jorgegarcia.daycare.dto.TeacherDTO;
+import com.jorgegarcia.daycare.repository.ClassroomRepository;
+import com.jorgegarcia.daycare.repository.ClassroomRosterRepository;
+import com.jorgegarcia.daycare.repository.DaycareChildRepository;
+import com.jorgegarcia.daycare.repository.TeacherRepository;
+import com.jorgegarcia.daycare.security.AppUser;
+import com.jorgegarcia.daycare.security.AppUserRepository;
+import com.jorgegarcia.daycare.security.JwtService;
+import com.jorgegarcia.daycare.security.Role;
+import com.jorgegarcia.daycare.service.ClassroomService;
+import com.jorgegarcia.daycare.service.DaycareChildService;
+import com.jorgegarcia.daycare.service.TeacherService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 🍼 ETag on GET, 304 on a matching If-None-Match, 412 on a stale If-Match
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AppUserRepository userRepository;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private ClassroomService classroomService;
+
+    @Autowired
+    private DaycareChildService childService;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private ClassroomRepository classroomRepository;
+
+    @Autowired
+    private DaycareChildRepository childRepository;
+
+    @Autowired
+    private ClassroomRosterRepository rosterRepository;
+
+    private String auth;
+    private TeacherDTO teacher;
+    private ClassroomDTO roomA;
+    private ClassroomDTO roomB;
+    private DaycareChildDTO child;
+
+    @BeforeEach
+    void setup() {
+        AppUser admin = userRepository.save(AppUser.builder()
+                .username("etag-admin").password("x").role(Role.ADMIN).build());
+        auth = "Bearer " + jwtService.generateAccessToken(admin);
+        teacher = teacherService.addTeacher(TeacherCreateDTO.builder()
+                .firstName("Etag").lastName("Teacher").email("etag@test.com").build());
+        roomA = classroomService.addClassroom(new ClassroomCreateDTO("Room A", teacher.getId()));
+        roomB = classroomService.addClassroom(new ClassroomCreateDTO("Room B", teacher.getId()));
+        child = childService.addDaycareChildren(DaycareChildDTO.builder()
+                .firstName("Leo").lastName("Etag").age(3)
+                .classroom(ClassroomSummaryDTO.builder().id(roomA.getId()).build())
+                .build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        rosterRepository.deleteAllInBatch();
+        childRepository.deleteAllInBatch();
+        classroomRepository.deleteAllInBatch();
+        teacherRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    // ============================================================
+    // 🍼 GET → 200 + ETag, same ETag back → 304 with no body
+    // ============================================================
+    @Test
+    void getReturnsETagAndMatchingIfNoneMatchIs304() throws Exception {
+        for (String url : new String[]{
+                "/api/classrooms/" + roomA.getId(),
+                "/api/teachers/" + teacher.getId(),
+                "/api/daycareKids/" + child.getId()}) {
+
+            // ACT 🍼
+            String etag = etagOf(url);
+
+            // ASSERT ✨
+            assertThat(etag).as(url).matches("\"\\d+\"");
+            mockMvc.perform(get(url).header("Authorization", auth).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(content().string(""));
+        }
+    }
+
+    // ============================================================
+    // 🍼 PUT / PATCH with an old ETag → 412, nothing written
+    // ============================================================
+    @Test
+    void staleIfMatchIs412() throws Exception {
+
+        // ARRANGE 🧸 someone else patches the teacher after we read it
+        String teacherUrl = "/api/teachers/" + teacher.getId();
+        String stale = etagOf(teacherUrl);
+        mockMvc.perform(patch(teacherUrl).header("Authorization", auth).header(HttpHeaders.IF_MATCH, stale)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"firstName\":\"First\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etagOf(teacherUrl)));
+
+        // ACT + ASSERT ✨
+        mockMvc.perform(put(teacherUrl).header("Authorization", auth).header(HttpHeaders.IF_MATCH, stale)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Late\",\"lastName\":\"Writer\",\"email\":\"late@test.com\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+        mockMvc.perform(patch("/api/classrooms/" + roomA.getId()).header("Authorization", auth)
+                        .header(HttpHeaders.IF_MATCH, "\"999\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"className\":\"Late\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/api/daycareKids/" + child.getId()).header("Authorization", auth)
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"age\":4}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(teacherService.getTeacherByTeacherId(teacher.getId()).getFirstName()).isEqualTo("First");
+        assertThat(classroomService.getClassromByClassroomId(roomA.getId()).getClassName()).isEqualTo("Room A");
+        assertThat(childService.getChildById(child.getId()).getAge()).isEqualTo(3);
+    }
+
+    // ============================================================
+    // 🍼 PUT / PATCH answer with the ETag of the body they return
+    // ============================================================
+    @Test
+    void writeResponseCarriesTheNewETag() throws Exception {
+        String[][] writes = {
+                {"/api/classrooms/" + roomA.getId(), "{\"className\":\"Room A2\"}"},
+                {"/api/teachers/" + teacher.getId(), "{\"lastName\":\"Renamed\"}"},
+                {"/api/daycareKids/" + child.getId(), "{\"age\":4}"}};
+        for (String[] write : writes) {
+
+            // ARRANGE 🧸
+            String before = etagOf(write[0]);
+
+            // ACT 🍼
+            String returned = mockMvc.perform(patch(write[0]).header("Authorization", auth)
+                            .header(HttpHeaders.IF_MATCH, before)
+                            .contentType(MediaType.APPLICATION_JSON).content(write[1]))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // ASSERT ✨ new version, and the one a GET now reports (→ 304 for it)
+            assertThat(returned).as(write[0]).isNotEqualTo(before).isEqualTo(etagOf(write[0]));
+            mockMvc.perform(get(write[0]).header("Authorization", auth).header(HttpHeaders.IF_NONE_MATCH, returned))
+                    .andExpect(status().isNotModified());
+        }
+        mockMvc.perform(put("/api/classrooms/" + roomB.getId()).header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"className\":\"Room B2\",\"teacherId\":%d}".formatted(teacher.getId())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etagOf("/api/classrooms/" + roomB.getId())));
+    }
+
+    // ============================================================
+    // 🍼 child moves A → B: both classroom ETags (and the child's) change
+    // ============================================================
+    @Test
+    void movingAChildChangesBothClassroomETags() throws Exception {
+
+        // ARRANGE 🧸
+        String urlA = "/api/classrooms/" + roomA.getId();
+        String urlB = "/api/classrooms/" + roomB.getId();
+        String urlChild = "/api/daycareKids/" + child.getId();
+        String etagA = etagOf(urlA);
+        String etagB = etagOf(urlB);
+        String etagChild = etagOf(urlChild);
+
+        // ACT 🍼
+        mockMvc.perform(post("/api/daycareKids/move").header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"childIds\":[%d],\"toClassroomId\":%d}".formatted(child.getId(), roomB.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moved").value(1));
+
+        // ASSERT ✨ the old ETags no longer match → full 200 with the new rosters
+        mockMvc.perform(get(urlA).header("Authorization", auth).header(HttpHeaders.IF_NONE_MATCH, etagA))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children.length()").value(0));
+        mockMvc.perform(get(urlB).header("Authorization", auth).header(HttpHeaders.IF_NONE_MATCH, etagB))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children[0].id").value(child.getId()));
+        mockMvc.perform(get(urlChild).header("Authorization", auth).header(HttpHeaders.IF_NONE_MATCH, etagChild))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.classroom.id").value(roomB.getId()));
+        assertThat(etagOf(urlA)).isNotEqualTo(etagA);
+        assertThat(etagOf(urlB)).isNotEqualTo(etagB);
+    }
+
+    private String etagOf(String url) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}